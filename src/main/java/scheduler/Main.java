@@ -1,16 +1,31 @@
 package scheduler;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import scheduler.models.GraphModel;
 import scheduler.models.MetricsModel;
+import scheduler.models.PhaseProfileModel;
 import scheduler.parsers.Arguments;
 import scheduler.parsers.CLIParser;
+import scheduler.parsers.InputOutputParser;
+import scheduler.parsers.MetricsParser;
 import scheduler.schedulers.Scheduler;
+import scheduler.schedulers.SchedulerSelector;
+import scheduler.schedulers.parallel.ParallelSchedulerBeam;
+import scheduler.schedulers.parallel.ParallelSchedulerBreadthFirst;
 import scheduler.schedulers.parallel.ParallelSchedulerForkJoin;
+import scheduler.schedulers.parallel.ParallelSchedulerPortfolio;
 import scheduler.schedulers.sequential.AStarScheduler;
+import scheduler.schedulers.sequential.ExternalMemoryAStarScheduler;
+import scheduler.schedulers.sequential.FrontierAStarScheduler;
+import scheduler.schedulers.sequential.ProcessorSweep;
+import scheduler.utilities.RunProfiler;
 import visualiser.Visualiser;
 
+import static scheduler.constants.Constants.EXTERNAL_MEMORY_BUFFER_BUDGET;
+import static scheduler.constants.Constants.EXTERNAL_MEMORY_RUN_SIZE;
+
 /**
  * The Main Class contains the necessary driver code for ensuring our program runs smoothly, and that a valid and
  * optimal schedule is generated. JavaFX code will also run if the user specifies that they want the schedule to be
@@ -19,29 +34,70 @@ import visualiser.Visualiser;
 public class Main {
     private static Scheduler scheduler;
 
+    private static final RunProfiler runProfiler = new RunProfiler();
+
     /**
      * The runScheduler method is responsible for running the scheduler and outputting the results to the user.
      * Different metrics are displayed such as the make-span, the number of processors used, the number of cores used,
-     * the elapsed time, and the memory used.
+     * the elapsed time, and the memory used. Every phase of the run is profiled, and the metrics are also written as
+     * JSON or in the Prometheus text format, if the user requested it, in which case the rule evaluations are timed.
      *
      * @param arguments the input arguments
      * @throws IOException if I/O file does not exist
      */
     private static void runScheduler(Arguments arguments) throws IOException {
-        long startTimeTest = System.currentTimeMillis();
+        if (arguments.getTimeout() != null) {
+            scheduler.getCancellationToken().setTimeout(arguments.getTimeout());
+        }
 
+        scheduler.setRuleTiming(arguments.getMetricsJSONFilePath() != null || arguments.getMetricsPrometheusFilePath() != null);
+
+        runProfiler.startPhase("Search");
         scheduler.schedule();
+        PhaseProfileModel searchProfile = runProfiler.endPhase();
 
-        long endTimeTest = System.currentTimeMillis();
+        runProfiler.startPhase("Output");
+        scheduler.saveBestState(arguments);
+        runProfiler.endPhase();
 
-        float elapsedTimeTest = (endTimeTest - startTimeTest) / 1000.0f;
+        MetricsModel metrics = scheduler.getMetrics();
 
-        MetricsModel metricsTest = scheduler.getMetrics();
+        metrics.setElapsedTime(searchProfile.getWallTime() / 1e9f);
+        metrics.setCpuTime(searchProfile.getProcessCpuTime() / 1e9f);
+        metrics.setPeakHeapUsage(searchProfile.getPeakHeapUsage());
+        metrics.setPhaseProfiles(runProfiler.getPhaseProfiles());
+        metrics.display();
 
-        metricsTest.setElapsedTime(elapsedTimeTest);
-        metricsTest.display();
+        if (arguments.getMetricsJSONFilePath() != null) {
+            MetricsParser.outputJSONFile(scheduler, arguments, arguments.getMetricsJSONFilePath());
+        }
 
-        scheduler.saveBestState(arguments);
+        if (arguments.getMetricsPrometheusFilePath() != null) {
+            MetricsParser.outputPrometheusFile(scheduler, arguments, arguments.getMetricsPrometheusFilePath());
+        }
+    }
+
+    /**
+     * The runProcessorSweep method is responsible for scheduling the input graph on every processor count requested by
+     * the user. A table of the make-span against the number of processors is displayed, and the schedule for the
+     * required number of processors is written to the output file.
+     *
+     * @param arguments the input arguments
+     * @throws IOException if I/O file does not exist
+     */
+    private static void runProcessorSweep(Arguments arguments) throws IOException {
+        GraphModel graph = new GraphModel(arguments.getInputDOTFilePath());
+
+        ProcessorSweep processorSweep = new ProcessorSweep(graph, arguments.getSweepProcessors());
+
+        processorSweep.run();
+        processorSweep.display();
+
+        graph.setNodesAndEdgesForState(processorSweep.getBestState(arguments.getProcessors()));
+
+        InputOutputParser.outputDOTFile(graph, arguments.getOutputDOTFilePath());
+
+        arguments.displayOutputDOTFilePath();
     }
 
     /**
@@ -53,13 +109,60 @@ public class Main {
      * @throws IOException when the I/O file does not exist
      */
     private static void initialiseScheduler(Arguments arguments) throws IOException {
+        runProfiler.startPhase("Graph load");
         GraphModel graph = new GraphModel(arguments.getInputDOTFilePath());
+        runProfiler.endPhase();
 
-        if (arguments.getCores() == 1) {
-            scheduler = new AStarScheduler(graph, arguments.getProcessors());
+        runProfiler.startPhase("Setup");
+        scheduler = createScheduler(graph, arguments);
+        runProfiler.endPhase();
+    }
+
+    /**
+     * The createScheduler method creates the scheduler that the user requested for the graph, which also analyses the
+     * graph and builds the greedy schedule that the search starts from.
+     *
+     * @param graph the input graph
+     * @param arguments the input arguments
+     * @return the scheduler
+     */
+    private static Scheduler createScheduler(GraphModel graph, Arguments arguments) {
+        if (arguments.isSchedulerSelection()) {
+            SchedulerSelector schedulerSelector = new SchedulerSelector(graph, arguments.getCores());
+            schedulerSelector.display();
+
+            AStarScheduler aStarScheduler = schedulerSelector.getScheduler(graph, arguments.getProcessors());
+            aStarScheduler.setEpsilon(arguments.getEpsilon());
+
+            return aStarScheduler;
+        }
+
+        if (arguments.isPortfolio()) {
+            return new ParallelSchedulerPortfolio(graph, arguments.getProcessors(), arguments.getCores());
+        }
+
+        AStarScheduler aStarScheduler;
+
+        if (arguments.isBeamSearch()) {
+            aStarScheduler = new ParallelSchedulerBeam(graph, arguments.getProcessors(), arguments.getCores(), arguments.getBeamWidth());
+        } else if (arguments.getCores() == 1 && arguments.isExternalMemory()) {
+            aStarScheduler = new ExternalMemoryAStarScheduler(graph, arguments.getProcessors(),
+                    Path.of(arguments.getExternalMemoryDirectory()), EXTERNAL_MEMORY_RUN_SIZE, EXTERNAL_MEMORY_BUFFER_BUDGET);
+        } else if (arguments.getCores() == 1 && arguments.isFrontierSearch()) {
+            aStarScheduler = new FrontierAStarScheduler(graph, arguments.getProcessors());
+        } else if (arguments.getCores() == 1) {
+            aStarScheduler = new AStarScheduler(graph, arguments.getProcessors());
+        } else if (arguments.isFrontierSearch()) {
+            aStarScheduler = new ParallelSchedulerBreadthFirst(graph, arguments.getProcessors(), arguments.getCores());
         } else {
-            scheduler = new ParallelSchedulerForkJoin(graph, arguments.getProcessors(), arguments.getCores());
+            aStarScheduler = new ParallelSchedulerForkJoin(graph, arguments.getProcessors(), arguments.getCores());
         }
+
+        aStarScheduler.setPartialExpansion(arguments.isPartialExpansion());
+        aStarScheduler.setSearchModelType(arguments.getSearchModelType());
+        aStarScheduler.setEpsilon(arguments.getEpsilon());
+
+        return aStarScheduler;
     }
 
     /**
@@ -77,8 +180,21 @@ public class Main {
             return;
         }
 
+        if (arguments.isProcessorSweep()) {
+            try {
+                runProcessorSweep(arguments);
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+
+            return;
+        }
+
         try {
             initialiseScheduler(arguments);
+        } catch (IllegalArgumentException exception) {
+            CLIParser.displayUsage(exception.getMessage());
+            return;
         } catch (IOException exception) {
             exception.printStackTrace();
             return;
@@ -12,6 +12,18 @@ public class Constants {
     public static final byte NUMBER_OF_REQUIRED_ARGUMENTS = 2;
 
     public static final int INFINITY_32 = Integer.MAX_VALUE;
+    public static final int MAXIMUM_NUMBER_OF_NODES = Short.MAX_VALUE;
+    public static final int EXTERNAL_MEMORY_RUN_SIZE = 1 << 20;
+    public static final int EXTERNAL_MEMORY_BUFFER_BUDGET = 1 << 24;
+    public static final int BREADTH_FIRST_TASK_SIZE = 64;
+    public static final int DYNAMIC_POLL_TIMEOUT = 100;
+    public static final int SUBTREE_TASK_DEPTH = 3;
+    public static final int SURPLUS_TASK_THRESHOLD = 3;
+    public static final int TRANSPOSITION_TABLE_SIZE = 1 << 18;
+    public static final int PORTFOLIO_SHARING_INTERVAL = 10;
+    public static final int PROGRESS_INTERVAL = 50;
+    public static final int RUN_PROFILE_SAMPLE_INTERVAL = 100;
+    public static final int SELECTOR_MAXIMUM_SHALLOW_DEPTH = 2;
     public static final int NUMBER_OF_NODES_LOWER_BOUND = 10;
     public static final int NUMBER_OF_NODES_UPPER_BOUND = 20;
     public static final int WEIGHT_LOWER_BOUND = 100;
@@ -24,6 +36,8 @@ public class Constants {
     public static final int WINDOW_WIDTH = 1280;
     public static final int WINDOW_HEIGHT = 720;
 
+    public static final double SELECTOR_MINIMUM_CCR = 1.5;
+    public static final double SELECTOR_MAXIMUM_WIDTH_RATIO = 0.7;
     public static final double EDGE_RATIO_LOWER_BOUND = 0.6;
     public static final double EDGE_RATIO_UPPER_BOUND = 1.0;
     public static final double SOURCE_NODE_RATIO_LOWER_BOUND = 0.2;
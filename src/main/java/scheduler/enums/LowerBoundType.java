@@ -0,0 +1,12 @@
+package scheduler.enums;
+
+/**
+ * Enums for the admissible lower bounds that make up the f-cost of the search.
+ */
+public enum LowerBoundType {
+  IDLE_TIME,
+  BOTTOM_LEVEL,
+  DATA_READY_TIME,
+  PROCESSOR_FREE_TIME,
+  COMMUNICATION
+}
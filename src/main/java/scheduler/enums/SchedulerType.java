@@ -0,0 +1,10 @@
+package scheduler.enums;
+
+/**
+ * Enums for the schedulers that can be selected from the features of a graph.
+ */
+public enum SchedulerType {
+  A_STAR,
+  ALLOCATION_ORDERING_A_STAR,
+  DEPTH_FIRST_BRANCH_AND_BOUND
+}
@@ -0,0 +1,9 @@
+package scheduler.enums;
+
+/**
+ * Enums for the possible state space models of the search.
+ */
+public enum SearchModelType {
+  EXHAUSTIVE_LIST_SCHEDULING,
+  ALLOCATION_ORDERING
+}
@@ -0,0 +1,19 @@
+package scheduler.events;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Decides if the scheduler emits its flight recorder events. Loading the first event class loads the flight recorder
+ * itself, which takes hundreds of milliseconds, so the events are only created once the flight recorder is running,
+ * either from the command line or from a recording started later.
+ */
+public class EventRecorder {
+    /**
+     * Checks if the flight recorder is running, in which case the events are created and committed if enabled.
+     *
+     * @return if the events should be created
+     */
+    public static boolean isRecording() {
+        return FlightRecorder.isInitialized();
+    }
+}
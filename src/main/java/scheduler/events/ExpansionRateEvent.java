@@ -0,0 +1,85 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import scheduler.schedulers.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flight recorder event that samples the expansion rate of every running search once per period. The samples are
+ * taken by the flight recorder's own thread from the metrics of the searches, so the searches pay nothing for them.
+ */
+@Name("scheduler.ExpansionRate")
+@Label("Expansion Rate")
+@Category("Process Scheduler")
+@Description("Samples the number of states that a running search opens per second")
+@Period("1 s")
+public class ExpansionRateEvent extends jdk.jfr.Event {
+    private static final Map<Scheduler, long[]> RUNNING_SCHEDULERS = new ConcurrentHashMap<>();
+
+    static {
+        FlightRecorder.addPeriodicEvent(ExpansionRateEvent.class, ExpansionRateEvent::sample);
+    }
+
+    @Label("Scheduler")
+    public String scheduler;
+
+    @Label("Opened States")
+    public int numberOfOpenedStates;
+
+    @Label("Opened States Per Second")
+    public double openedStatesPerSecond;
+
+    @Label("Lower Bound")
+    public int lowerBound;
+
+    @Label("Upper Bound")
+    public int upperBound;
+
+    /**
+     * Starts sampling a search.
+     *
+     * @param scheduler the running scheduler
+     */
+    public static void register(Scheduler scheduler) {
+        RUNNING_SCHEDULERS.put(scheduler, new long[]{System.nanoTime(), 0});
+    }
+
+    /**
+     * Stops sampling a search.
+     *
+     * @param scheduler the scheduler whose search ended
+     */
+    public static void unregister(Scheduler scheduler) {
+        RUNNING_SCHEDULERS.remove(scheduler);
+    }
+
+    /**
+     * Emits one sample per running search, with the rate since its previous sample.
+     */
+    private static void sample() {
+        long nanoTime = System.nanoTime();
+
+        RUNNING_SCHEDULERS.forEach((scheduler, previousSample) -> {
+            ExpansionRateEvent event = new ExpansionRateEvent();
+
+            event.scheduler = scheduler.getClass().getSimpleName();
+            event.numberOfOpenedStates = scheduler.getMetrics().getNumberOfOpenedStates();
+            event.openedStatesPerSecond = (nanoTime == previousSample[0]) ? 0 :
+                    (event.numberOfOpenedStates - previousSample[1]) * 1e9 / (nanoTime - previousSample[0]);
+            event.lowerBound = scheduler.getProvenLowerBound();
+            event.upperBound = scheduler.getUpperBound();
+
+            event.commit();
+
+            previousSample[0] = nanoTime;
+            previousSample[1] = event.numberOfOpenedStates;
+        });
+    }
+}
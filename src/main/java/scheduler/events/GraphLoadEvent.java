@@ -0,0 +1,21 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for reading an input DOT file into a graph model.
+ */
+@Name("scheduler.GraphLoad")
+@Label("Graph Load")
+@Category("Process Scheduler")
+@Description("Reads an input DOT file into a graph model")
+public class GraphLoadEvent extends jdk.jfr.Event {
+    @Label("File")
+    public String filename;
+
+    @Label("Nodes")
+    public int numberOfNodes;
+}
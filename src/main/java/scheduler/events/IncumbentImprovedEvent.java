@@ -0,0 +1,24 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a search finding a shorter complete schedule.
+ */
+@Name("scheduler.IncumbentImproved")
+@Label("Incumbent Improved")
+@Category("Process Scheduler")
+@Description("The search found a shorter complete schedule")
+public class IncumbentImprovedEvent extends jdk.jfr.Event {
+    @Label("Scheduler")
+    public String scheduler;
+
+    @Label("Finish Time")
+    public int finishTime;
+
+    @Label("Opened States")
+    public int numberOfOpenedStates;
+}
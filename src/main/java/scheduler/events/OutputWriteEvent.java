@@ -0,0 +1,18 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for writing a schedule to an output DOT file.
+ */
+@Name("scheduler.OutputWrite")
+@Label("Output Write")
+@Category("Process Scheduler")
+@Description("Writes a schedule to an output DOT file")
+public class OutputWriteEvent extends jdk.jfr.Event {
+    @Label("File")
+    public String filename;
+}
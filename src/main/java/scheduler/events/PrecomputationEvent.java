@@ -0,0 +1,21 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the analysis of the graph that a scheduler computes before its search.
+ */
+@Name("scheduler.Precomputation")
+@Label("Precomputation")
+@Category("Process Scheduler")
+@Description("Computes the analysis of the graph when a scheduler is created")
+public class PrecomputationEvent extends jdk.jfr.Event {
+    @Label("Nodes")
+    public int numberOfNodes;
+
+    @Label("Processors")
+    public int processors;
+}
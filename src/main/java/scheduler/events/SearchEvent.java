@@ -0,0 +1,39 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a whole search, from its start until its best state is recorded in the metrics.
+ */
+@Name("scheduler.Search")
+@Label("Search")
+@Category("Process Scheduler")
+@Description("Searches for an optimal schedule")
+public class SearchEvent extends jdk.jfr.Event {
+    @Label("Scheduler")
+    public String scheduler;
+
+    @Label("Nodes")
+    public int numberOfNodes;
+
+    @Label("Processors")
+    public int processors;
+
+    @Label("Opened States")
+    public int numberOfOpenedStates;
+
+    @Label("Closed States")
+    public int numberOfClosedStates;
+
+    @Label("Finish Time")
+    public int finishTime;
+
+    @Label("Lower Bound")
+    public int lowerBound;
+
+    @Label("Cancelled")
+    public boolean isCancelled;
+}
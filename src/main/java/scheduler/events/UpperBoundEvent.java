@@ -0,0 +1,18 @@
+package scheduler.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the greedy schedule that a search starts from as its upper bound.
+ */
+@Name("scheduler.UpperBound")
+@Label("Upper Bound")
+@Category("Process Scheduler")
+@Description("Builds the greedy schedule that the search starts from")
+public class UpperBoundEvent extends jdk.jfr.Event {
+    @Label("Finish Time")
+    public int finishTime;
+}
@@ -0,0 +1,209 @@
+package scheduler.models;
+
+import java.util.Arrays;
+
+/**
+ * Represents a (partial) allocation of the nodes to processors in the allocation-ordering state space. The nodes are
+ * allocated one at a time in the order of their indices, which is a topological order, and a node may only be allocated to a
+ * processor that is already used or to the first unused processor, so every allocation is created exactly once. An
+ * allocation is never changed, so it is shared by all states that order it.
+ */
+public class AllocationModel {
+    private final short numberOfAllocatedNodes;
+    private final byte numberOfUsedProcessors;
+
+    private final int maximumProcessorWeight;
+    private final int maximumPathLength;
+
+    private final byte[] nodeProcessors;
+
+    private final int[] processorWeights;
+    private final int[] topLevelPathLengths;
+    private final int[] bottomLevelPathLengths;
+
+    /**
+     * Constructs an empty {@code AllocationModel}.
+     *
+     * @param numberOfNodes      the total number of nodes to allocate
+     * @param numberOfProcessors the number of processors available for allocation
+     */
+    public AllocationModel(short numberOfNodes, byte numberOfProcessors) {
+        this.numberOfAllocatedNodes = 0;
+        this.numberOfUsedProcessors = 0;
+
+        this.maximumProcessorWeight = 0;
+        this.maximumPathLength = 0;
+
+        this.nodeProcessors = new byte[numberOfNodes];
+
+        this.processorWeights = new int[numberOfProcessors];
+        this.topLevelPathLengths = new int[numberOfNodes];
+        this.bottomLevelPathLengths = (numberOfNodes == 0) ? new int[0] : null;
+
+        Arrays.fill(this.nodeProcessors, (byte) -1);
+    }
+
+    /**
+     * Constructs a new {@code AllocationModel} that allocates the next node of the given allocation to a processor.
+     * The top level path length of the node only counts the communication of its predecessors on other processors,
+     * which are all allocated already. When the last node is allocated, the bottom level path lengths of the
+     * allocation are computed in the same way.
+     *
+     * @param allocation    the allocation to extend
+     * @param processor     the processor of the next node
+     * @param compiledGraph the graph's analysis
+     */
+    public AllocationModel(AllocationModel allocation, byte processor, CompiledGraphModel compiledGraph) {
+        short nodeId = allocation.numberOfAllocatedNodes;
+
+        this.numberOfAllocatedNodes = (short) (nodeId + 1);
+        this.numberOfUsedProcessors = (byte) Math.max(allocation.numberOfUsedProcessors, processor + 1);
+
+        this.nodeProcessors = allocation.nodeProcessors.clone();
+        this.nodeProcessors[nodeId] = processor;
+
+        this.processorWeights = allocation.processorWeights.clone();
+        this.processorWeights[processor] += compiledGraph.getWeight(nodeId);
+
+        this.topLevelPathLengths = allocation.topLevelPathLengths.clone();
+        this.topLevelPathLengths[nodeId] = getTopLevelPathLength(compiledGraph, nodeId);
+
+        int pathLength = this.topLevelPathLengths[nodeId] + compiledGraph.getBottomLevelPathLengths()[nodeId];
+
+        this.maximumProcessorWeight = Math.max(allocation.maximumProcessorWeight, this.processorWeights[processor]);
+        this.maximumPathLength = Math.max(allocation.maximumPathLength, pathLength);
+
+        this.bottomLevelPathLengths = isComplete() ? findBottomLevelPathLengths(compiledGraph) : null;
+    }
+
+    /**
+     * Returns the top level path length of a node whose predecessors are allocated, i.e., the length of the longest
+     * path to the node, counting the communication between nodes on different processors.
+     *
+     * @param compiledGraph the graph's analysis
+     * @param nodeId        the node id
+     * @return the top level path length
+     */
+    private int getTopLevelPathLength(CompiledGraphModel compiledGraph, short nodeId) {
+        int topLevelPathLength = 0;
+
+        for (short predecessorId : compiledGraph.getPredecessorIds(nodeId)) {
+            int pathLength = this.topLevelPathLengths[predecessorId] + compiledGraph.getWeight(predecessorId);
+
+            if (this.nodeProcessors[predecessorId] != this.nodeProcessors[nodeId]) {
+                pathLength += compiledGraph.getEdgeWeight(predecessorId, nodeId);
+            }
+
+            topLevelPathLength = Math.max(topLevelPathLength, pathLength);
+        }
+
+        return topLevelPathLength;
+    }
+
+    /**
+     * Returns the bottom level path lengths of the complete allocation, counting the communication between nodes on
+     * different processors.
+     *
+     * @param compiledGraph the graph's analysis
+     * @return the bottom level path lengths
+     */
+    private int[] findBottomLevelPathLengths(CompiledGraphModel compiledGraph) {
+        int[] bottomLevelPathLengths = new int[this.nodeProcessors.length];
+
+        for (int nodeId = this.nodeProcessors.length - 1; nodeId >= 0; nodeId--) {
+            int bottomLevelPathLength = 0;
+
+            for (short successorId : compiledGraph.getSuccessorIds(nodeId)) {
+                int pathLength = bottomLevelPathLengths[successorId];
+
+                if (this.nodeProcessors[successorId] != this.nodeProcessors[nodeId]) {
+                    pathLength += compiledGraph.getEdgeWeight(nodeId, successorId);
+                }
+
+                bottomLevelPathLength = Math.max(bottomLevelPathLength, pathLength);
+            }
+
+            bottomLevelPathLengths[nodeId] = bottomLevelPathLength + compiledGraph.getWeight(nodeId);
+        }
+
+        return bottomLevelPathLengths;
+    }
+
+    /**
+     * Checks if all nodes are allocated.
+     *
+     * @return true if all nodes are allocated; false otherwise
+     */
+    public boolean isComplete() {
+        return (this.numberOfAllocatedNodes == this.nodeProcessors.length);
+    }
+
+    /**
+     * Returns the number of allocated nodes. This is also the id of the next node to allocate.
+     *
+     * @return the number of allocated nodes
+     */
+    public short getNumberOfAllocatedNodes() {
+        return this.numberOfAllocatedNodes;
+    }
+
+    /**
+     * Returns the number of processors that have at least one node allocated.
+     *
+     * @return the number of used processors
+     */
+    public byte getNumberOfUsedProcessors() {
+        return this.numberOfUsedProcessors;
+    }
+
+    /**
+     * Returns the processor of an allocated node.
+     *
+     * @param nodeId the node id
+     * @return the processor of the node
+     */
+    public byte getNodeProcessor(int nodeId) {
+        return this.nodeProcessors[nodeId];
+    }
+
+    /**
+     * Returns the total weight of the nodes allocated to a processor.
+     *
+     * @param processor the processor
+     * @return the total weight of the processor
+     */
+    public int getProcessorWeight(int processor) {
+        return this.processorWeights[processor];
+    }
+
+    /**
+     * Returns the largest total weight of the nodes allocated to a processor, which is a lower bound of the schedule
+     * length.
+     *
+     * @return the maximum processor weight
+     */
+    public int getMaximumProcessorWeight() {
+        return this.maximumProcessorWeight;
+    }
+
+    /**
+     * Returns the length of the longest path through an allocated node, which is a lower bound of the schedule length.
+     * The communication between allocated nodes on different processors is counted, and the path below the node only
+     * counts the computation.
+     *
+     * @return the maximum path length
+     */
+    public int getMaximumPathLength() {
+        return this.maximumPathLength;
+    }
+
+    /**
+     * Returns the bottom level path length of a node in the complete allocation.
+     *
+     * @param nodeId the node id
+     * @return the bottom level path length
+     */
+    public int getBottomLevelPathLength(int nodeId) {
+        return this.bottomLevelPathLengths[nodeId];
+    }
+}
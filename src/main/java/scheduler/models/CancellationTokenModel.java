@@ -0,0 +1,49 @@
+package scheduler.models;
+
+import java.time.Duration;
+
+/**
+ * The CancellationTokenModel class tells a running search to stop. A search is cancelled either explicitly, or once
+ * its deadline has passed. The schedulers check the token before every expansion, so checking it only reads a volatile
+ * field, and the clock when a deadline is set.
+ */
+public class CancellationTokenModel {
+    private volatile boolean isCancelled;
+
+    private volatile boolean hasDeadline;
+    private volatile long deadlineNanoTime;
+
+    /**
+     * Method cancels the search.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    /**
+     * Method sets the deadline of the search to the given timeout from now.
+     *
+     * @param timeout the time that the search may still run
+     */
+    public void setTimeout(Duration timeout) {
+        this.deadlineNanoTime = System.nanoTime() + timeout.toNanos();
+        this.hasDeadline = true;
+    }
+
+    /**
+     * Method checks if the search was cancelled or its deadline has passed.
+     *
+     * @return if the search should stop
+     */
+    public boolean isCancelled() {
+        if (this.isCancelled) {
+            return true;
+        }
+
+        if (this.hasDeadline && System.nanoTime() - this.deadlineNanoTime >= 0) {
+            this.isCancelled = true;
+        }
+
+        return this.isCancelled;
+    }
+}
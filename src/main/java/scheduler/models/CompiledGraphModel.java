@@ -0,0 +1,631 @@
+package scheduler.models;
+
+import java.util.*;
+
+import static scheduler.constants.Constants.MAXIMUM_NUMBER_OF_NODES;
+
+/**
+ * Represents the analysis of a {@link GraphModel} that every scheduler needs before it can search, such as the
+ * topological ordering, the top and bottom level path lengths, the critical path, the equivalent node groups and the
+ * transitive closure. It is built once per graph and is immutable afterwards, so it is shared by every scheduler and
+ * every thread scheduling the same graph. Nodes are referred to by their index, which is their topological position.
+ * The indices are shorts, so a graph has at most 32767 nodes.
+ * <p>
+ * The searches do not read the top levels, the critical path or the transitive closure. They are part of the API for
+ * heuristics, such as list scheduling priorities, node orderings and graph features, so that a heuristic does not
+ * have to analyse the graph again.
+ * <p>
+ * The indices are the one thing the analysis writes outside itself: they are set on the graph's nodes while it is
+ * built, as every scheduler reads them from the nodes. This is safe because a graph is analysed exactly once, before
+ * any scheduler is created for it, and a changed graph is analysed as a copy with its own nodes. The nodes of an
+ * analysed graph must therefore not be shared with another graph. The equivalent node groups are only kept here.
+ */
+public class CompiledGraphModel {
+    private static final int NO_EDGE = -1;
+
+    private final int numberOfNodes;
+    private final int totalNodeWeight;
+    private final int criticalPathLength;
+
+    private final NodeModel[] nodes;
+
+    private final int[] weights;
+    private final int[] edgeWeights;
+    private final int[] topLevelPathLengths;
+    private final int[] bottomLevelPathLengths;
+    private final int[] groupIds;
+
+    private final short[] criticalPath;
+
+    private final short[][] predecessorIds;
+    private final short[][] successorIds;
+    private final short[][] equivalentNodeGroups;
+
+    private final long[][] ancestors;
+    private final long[][] descendants;
+
+    /**
+     * Constructs a new {@code CompiledGraphModel} by analysing the given graph. The indices of the graph's nodes are
+     * set to their topological position.
+     *
+     * @param graph the graph to analyse
+     * @throws IllegalArgumentException if the graph has more nodes than can be indexed
+     */
+    public CompiledGraphModel(GraphModel graph) {
+        this(graph, getSortedNodes(graph.getNodes()), null, null);
+    }
+
+    /**
+     * Constructs a new {@code CompiledGraphModel} for a changed copy of a previously analysed graph. The previous
+     * topological ordering and indices are kept if they are still valid, in which case only the bottom level path
+     * lengths of the changed nodes and their ancestors are recomputed.
+     *
+     * @param previousCompiledGraph the analysis of the graph before it changed
+     * @param graph the changed copy of the graph, whose nodes have the same ids as the previous nodes
+     * @param changedNodes the nodes whose weight or edges changed
+     * @throws IllegalArgumentException if the graph has more nodes than can be indexed
+     */
+    public CompiledGraphModel(CompiledGraphModel previousCompiledGraph, GraphModel graph, Set<NodeModel> changedNodes) {
+        this(graph, getPreviousNodes(previousCompiledGraph, graph), previousCompiledGraph, changedNodes);
+    }
+
+    /**
+     * Constructs a new {@code CompiledGraphModel} for the given topological ordering of nodes.
+     *
+     * @param graph the graph to analyse
+     * @param nodes the nodes in topological order
+     * @param previousCompiledGraph the previous analysis of the graph, or null
+     * @param changedNodes the nodes that changed since the previous analysis, or null
+     * @throws IllegalArgumentException if the graph has more nodes than can be indexed
+     */
+    private CompiledGraphModel(GraphModel graph, NodeModel[] nodes, CompiledGraphModel previousCompiledGraph, Set<NodeModel> changedNodes) {
+        if (nodes.length > MAXIMUM_NUMBER_OF_NODES) {
+            throw new IllegalArgumentException("Graphs of at most " + MAXIMUM_NUMBER_OF_NODES + " nodes are supported, but the graph has " + nodes.length + " nodes");
+        }
+
+        this.numberOfNodes = nodes.length;
+        this.totalNodeWeight = graph.getTotalNodeWeight();
+
+        this.nodes = nodes;
+
+        for (int nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            this.nodes[nodeId].setIndex((short) nodeId);
+        }
+
+        this.weights = new int[this.numberOfNodes];
+        this.edgeWeights = new int[this.numberOfNodes * this.numberOfNodes];
+
+        this.predecessorIds = new short[this.numberOfNodes][];
+        this.successorIds = new short[this.numberOfNodes][];
+
+        setWeightsAndEdges(graph);
+
+        this.topLevelPathLengths = findTopLevelPathLengths();
+
+        if (previousCompiledGraph != null && Arrays.equals(previousCompiledGraph.nodes, nodes)) {
+            this.bottomLevelPathLengths = findBottomLevelPathLengths(previousCompiledGraph.bottomLevelPathLengths, changedNodes);
+        } else {
+            this.bottomLevelPathLengths = findBottomLevelPathLengths();
+        }
+
+        this.criticalPathLength = Arrays.stream(this.bottomLevelPathLengths).max().orElse(0);
+        this.criticalPath = findCriticalPath();
+
+        this.groupIds = new int[this.numberOfNodes];
+        this.equivalentNodeGroups = findEquivalentNodeGroups();
+
+        this.ancestors = new long[this.numberOfNodes][(this.numberOfNodes + Long.SIZE - 1) / Long.SIZE];
+        this.descendants = new long[this.numberOfNodes][(this.numberOfNodes + Long.SIZE - 1) / Long.SIZE];
+
+        setTransitiveClosure();
+    }
+
+    /**
+     * Returns the nodes sorted in topological order, using Kahn's algorithm.
+     *
+     * @param nodes the graph's nodes in a map
+     * @return an array of sorted nodes
+     */
+    private static NodeModel[] getSortedNodes(Map<String, NodeModel> nodes) {
+        int sortedIndex = 0;
+
+        NodeModel[] sortedNodes = new NodeModel[nodes.size()];
+
+        Deque<NodeModel> deque = new ArrayDeque<>();
+        Map<NodeModel, Integer> inDegrees = new HashMap<>();
+
+        for (NodeModel node : nodes.values()) {
+            inDegrees.put(node, node.getInDegree());
+
+            if (node.getInDegree() == 0) {
+                deque.add(node);
+            }
+        }
+
+        while (!deque.isEmpty()) {
+            NodeModel node = deque.poll();
+
+            sortedNodes[sortedIndex++] = node;
+
+            for (NodeModel successor : node.getSuccessors()) {
+                if (inDegrees.merge(successor, -1, Integer::sum) == 0) {
+                    deque.add(successor);
+                }
+            }
+        }
+
+        return sortedNodes;
+    }
+
+    /**
+     * Returns the nodes of the changed graph in the ordering of the previous analysis if it is still a topological
+     * ordering, or sorts them again otherwise.
+     *
+     * @param previousCompiledGraph the analysis of the graph before it changed
+     * @param graph the changed copy of the graph
+     * @return the nodes in topological order
+     */
+    private static NodeModel[] getPreviousNodes(CompiledGraphModel previousCompiledGraph, GraphModel graph) {
+        NodeModel[] nodes = new NodeModel[previousCompiledGraph.numberOfNodes];
+        Map<NodeModel, Integer> indices = new HashMap<>();
+
+        for (int index = 0; index < nodes.length; index++) {
+            nodes[index] = graph.getNode(previousCompiledGraph.nodes[index].getId());
+            indices.put(nodes[index], index);
+        }
+
+        for (int index = 0; index < nodes.length; index++) {
+            for (NodeModel predecessor : nodes[index].getPredecessors()) {
+                if (indices.get(predecessor) >= index) {
+                    return getSortedNodes(graph.getNodes());
+                }
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Copies the node weights, the adjacency and the edge weights of the graph into arrays indexed by node index.
+     *
+     * @param graph the graph to analyse
+     */
+    private void setWeightsAndEdges(GraphModel graph) {
+        Arrays.fill(this.edgeWeights, NO_EDGE);
+
+        for (NodeModel node : this.nodes) {
+            short nodeId = node.getIndex();
+
+            this.weights[nodeId] = node.getWeight();
+            this.predecessorIds[nodeId] = getSortedIndices(node.getPredecessors());
+            this.successorIds[nodeId] = getSortedIndices(node.getSuccessors());
+
+            for (NodeModel successor : node.getSuccessors()) {
+                this.edgeWeights[nodeId * this.numberOfNodes + successor.getIndex()] = graph.getEdge(node, successor).weight();
+            }
+        }
+    }
+
+    /**
+     * Returns the indices of the given nodes in ascending order.
+     *
+     * @param nodes the nodes
+     * @return the sorted indices
+     */
+    private static short[] getSortedIndices(List<NodeModel> nodes) {
+        short[] indices = new short[nodes.size()];
+
+        for (int index = 0; index < indices.length; index++) {
+            indices[index] = nodes.get(index).getIndex();
+        }
+
+        Arrays.sort(indices);
+
+        return indices;
+    }
+
+    /**
+     * Calculates the top level path length of each node, which is the longest path of computation from any source node
+     * to the start of the node.
+     *
+     * @return the top level path lengths
+     */
+    private int[] findTopLevelPathLengths() {
+        int[] topLevelPathLengths = new int[this.numberOfNodes];
+
+        for (int nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            for (short predecessorId : this.predecessorIds[nodeId]) {
+                int topLevelPathLength = topLevelPathLengths[predecessorId] + this.weights[predecessorId];
+                topLevelPathLengths[nodeId] = Math.max(topLevelPathLengths[nodeId], topLevelPathLength);
+            }
+        }
+
+        return topLevelPathLengths;
+    }
+
+    /**
+     * Calculates the bottom level path length of each node, which is the longest path of computation from the start of
+     * the node to the end of the graph.
+     *
+     * @return the bottom level path lengths
+     */
+    private int[] findBottomLevelPathLengths() {
+        int[] bottomLevelPathLengths = new int[this.numberOfNodes];
+
+        for (int nodeId = this.numberOfNodes - 1; nodeId >= 0; nodeId--) {
+            bottomLevelPathLengths[nodeId] = getBottomLevelPathLength(bottomLevelPathLengths, nodeId);
+        }
+
+        return bottomLevelPathLengths;
+    }
+
+    /**
+     * Recalculates the bottom level path lengths after the given nodes changed. Only the changed nodes and the
+     * ancestors whose bottom level path length changed as a result are visited again.
+     *
+     * @param previousBottomLevelPathLengths the bottom level path lengths before the nodes changed
+     * @param changedNodes the nodes whose weight or edges changed
+     * @return the bottom level path lengths
+     */
+    private int[] findBottomLevelPathLengths(int[] previousBottomLevelPathLengths, Set<NodeModel> changedNodes) {
+        int[] bottomLevelPathLengths = previousBottomLevelPathLengths.clone();
+
+        boolean[] changedNodeIds = new boolean[this.numberOfNodes];
+
+        for (NodeModel node : changedNodes) {
+            changedNodeIds[node.getIndex()] = true;
+        }
+
+        for (int nodeId = this.numberOfNodes - 1; nodeId >= 0; nodeId--) {
+            if (!changedNodeIds[nodeId]) {
+                continue;
+            }
+
+            int bottomLevelPathLength = getBottomLevelPathLength(bottomLevelPathLengths, nodeId);
+
+            if (bottomLevelPathLengths[nodeId] != bottomLevelPathLength) {
+                bottomLevelPathLengths[nodeId] = bottomLevelPathLength;
+
+                for (short predecessorId : this.predecessorIds[nodeId]) {
+                    changedNodeIds[predecessorId] = true;
+                }
+            }
+        }
+
+        return bottomLevelPathLengths;
+    }
+
+    /**
+     * Calculates the bottom level path length of a node from the bottom level path lengths of its successors.
+     *
+     * @param bottomLevelPathLengths the bottom level path lengths of the successors
+     * @param nodeId the node's index
+     * @return the bottom level path length of the node
+     */
+    private int getBottomLevelPathLength(int[] bottomLevelPathLengths, int nodeId) {
+        int bottomLevelPathLength = 0;
+
+        for (short successorId : this.successorIds[nodeId]) {
+            bottomLevelPathLength = Math.max(bottomLevelPathLength, bottomLevelPathLengths[successorId]);
+        }
+
+        return bottomLevelPathLength + this.weights[nodeId];
+    }
+
+    /**
+     * Returns the nodes of a critical path, i.e., a path whose computation equals the critical path length.
+     *
+     * @return the indices of the critical path, from source to sink
+     */
+    private short[] findCriticalPath() {
+        List<Short> criticalPath = new ArrayList<>();
+
+        int nodeId = -1;
+
+        for (int index = 0; index < this.numberOfNodes; index++) {
+            if (this.bottomLevelPathLengths[index] == this.criticalPathLength) {
+                nodeId = index;
+                break;
+            }
+        }
+
+        while (nodeId != -1) {
+            criticalPath.add((short) nodeId);
+
+            int remainingPathLength = this.bottomLevelPathLengths[nodeId] - this.weights[nodeId];
+            int nextNodeId = -1;
+
+            for (short successorId : this.successorIds[nodeId]) {
+                if (this.bottomLevelPathLengths[successorId] == remainingPathLength) {
+                    nextNodeId = successorId;
+                    break;
+                }
+            }
+
+            nodeId = nextNodeId;
+        }
+
+        short[] criticalPathIds = new short[criticalPath.size()];
+
+        for (int index = 0; index < criticalPathIds.length; index++) {
+            criticalPathIds[index] = criticalPath.get(index);
+        }
+
+        return criticalPathIds;
+    }
+
+    /**
+     * Groups equivalent nodes. Two nodes are equivalent if they have the same weight, the same predecessors and
+     * successors, and the same edge weights to them. Nodes are grouped by hashing this signature, so the grouping takes
+     * linear time in the size of the graph. Each group is in ascending index order.
+     *
+     * @return the equivalent node groups, indexed by group id
+     */
+    private short[][] findEquivalentNodeGroups() {
+        Map<List<Integer>, List<Short>> groups = new LinkedHashMap<>();
+
+        for (short nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            groups.computeIfAbsent(getSignature(nodeId), signature -> new ArrayList<>()).add(nodeId);
+        }
+
+        short[][] equivalentNodeGroups = new short[groups.size()][];
+
+        int groupId = 0;
+
+        for (List<Short> group : groups.values()) {
+            equivalentNodeGroups[groupId] = new short[group.size()];
+
+            for (int index = 0; index < group.size(); index++) {
+                short nodeId = group.get(index);
+
+                equivalentNodeGroups[groupId][index] = nodeId;
+
+                this.groupIds[nodeId] = groupId;
+            }
+
+            ++groupId;
+        }
+
+        return equivalentNodeGroups;
+    }
+
+    /**
+     * Returns the equivalence signature of a node, which is its weight followed by its predecessors and successors
+     * together with their edge weights.
+     *
+     * @param nodeId the node's index
+     * @return the signature of the node
+     */
+    private List<Integer> getSignature(short nodeId) {
+        List<Integer> signature = new ArrayList<>();
+
+        signature.add(this.weights[nodeId]);
+        signature.add(this.predecessorIds[nodeId].length);
+
+        for (short predecessorId : this.predecessorIds[nodeId]) {
+            signature.add((int) predecessorId);
+            signature.add(getEdgeWeight(predecessorId, nodeId));
+        }
+
+        for (short successorId : this.successorIds[nodeId]) {
+            signature.add((int) successorId);
+            signature.add(getEdgeWeight(nodeId, successorId));
+        }
+
+        return signature;
+    }
+
+    /**
+     * Computes the ancestors and descendants of every node as bitsets.
+     */
+    private void setTransitiveClosure() {
+        for (int nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            for (short predecessorId : this.predecessorIds[nodeId]) {
+                setUnion(this.ancestors[nodeId], this.ancestors[predecessorId], predecessorId);
+            }
+        }
+
+        for (int nodeId = this.numberOfNodes - 1; nodeId >= 0; nodeId--) {
+            for (short successorId : this.successorIds[nodeId]) {
+                setUnion(this.descendants[nodeId], this.descendants[successorId], successorId);
+            }
+        }
+    }
+
+    /**
+     * Adds a bitset and one more node to a bitset.
+     *
+     * @param bitset the bitset to add to
+     * @param other the bitset to add
+     * @param nodeId the node to add
+     */
+    private static void setUnion(long[] bitset, long[] other, int nodeId) {
+        for (int index = 0; index < bitset.length; index++) {
+            bitset[index] |= other[index];
+        }
+
+        bitset[nodeId / Long.SIZE] |= 1L << (nodeId % Long.SIZE);
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes
+     */
+    public int getNumberOfNodes() {
+        return this.numberOfNodes;
+    }
+
+    /**
+     * Returns the sum of all node weights.
+     *
+     * @return the total node weight
+     */
+    public int getTotalNodeWeight() {
+        return this.totalNodeWeight;
+    }
+
+    /**
+     * Returns the nodes in topological order, indexed by node index. The array must not be modified.
+     *
+     * @return the nodes in topological order
+     */
+    public NodeModel[] getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Returns the weight of a node.
+     *
+     * @param nodeId the node's index
+     * @return the weight of the node
+     */
+    public int getWeight(int nodeId) {
+        return this.weights[nodeId];
+    }
+
+    /**
+     * Returns the weight of the edge between two nodes.
+     *
+     * @param sourceId the source node's index
+     * @param destinationId the destination node's index
+     * @return the weight of the edge, or -1 if there is no such edge
+     */
+    public int getEdgeWeight(int sourceId, int destinationId) {
+        return this.edgeWeights[sourceId * this.numberOfNodes + destinationId];
+    }
+
+    /**
+     * Returns the indices of a node's predecessors in ascending order. The array must not be modified.
+     *
+     * @param nodeId the node's index
+     * @return the indices of the predecessors
+     */
+    public short[] getPredecessorIds(int nodeId) {
+        return this.predecessorIds[nodeId];
+    }
+
+    /**
+     * Returns the indices of a node's successors in ascending order. The array must not be modified.
+     *
+     * @param nodeId the node's index
+     * @return the indices of the successors
+     */
+    public short[] getSuccessorIds(int nodeId) {
+        return this.successorIds[nodeId];
+    }
+
+    /**
+     * Returns the top level path length of a node, i.e., the longest path of computation before the node can start.
+     *
+     * @param nodeId the node's index
+     * @return the top level path length
+     */
+    public int getTopLevelPathLength(int nodeId) {
+        return this.topLevelPathLengths[nodeId];
+    }
+
+    /**
+     * Returns the bottom level path lengths of every node, indexed by node index. The array must not be modified.
+     *
+     * @return the bottom level path lengths
+     */
+    public int[] getBottomLevelPathLengths() {
+        return this.bottomLevelPathLengths;
+    }
+
+    /**
+     * Returns the critical path length, which is the maximum bottom level path length.
+     *
+     * @return the critical path length
+     */
+    public int getCriticalPathLength() {
+        return this.criticalPathLength;
+    }
+
+    /**
+     * Returns the indices of a critical path, from source to sink. The array must not be modified.
+     *
+     * @return the critical path
+     */
+    public short[] getCriticalPath() {
+        return this.criticalPath;
+    }
+
+    /**
+     * Returns the group id of a node. Nodes with the same group id are equivalent.
+     *
+     * @param nodeId the node's index
+     * @return the group id of the node
+     */
+    public int getGroupId(int nodeId) {
+        return this.groupIds[nodeId];
+    }
+
+    /**
+     * Returns the indices of the nodes in the given equivalent node group in ascending order. The array must not be
+     * modified.
+     *
+     * @param groupId the group id
+     * @return the indices of the equivalent nodes
+     */
+    public short[] getEquivalentNodeGroup(int groupId) {
+        return this.equivalentNodeGroups[groupId];
+    }
+
+    /**
+     * Returns the number of equivalent node groups.
+     *
+     * @return the number of equivalent node groups
+     */
+    public int getNumberOfEquivalentNodeGroups() {
+        return this.equivalentNodeGroups.length;
+    }
+
+    /**
+     * Checks if there is a path from one node to another.
+     *
+     * @param ancestorId the index of the possible ancestor
+     * @param descendantId the index of the possible descendant
+     * @return if the first node is an ancestor of the second node
+     */
+    public boolean isAncestor(int ancestorId, int descendantId) {
+        return (this.descendants[ancestorId][descendantId / Long.SIZE] & (1L << (descendantId % Long.SIZE))) != 0;
+    }
+
+    /**
+     * Returns the number of ancestors of a node.
+     *
+     * @param nodeId the node's index
+     * @return the number of ancestors
+     */
+    public int getNumberOfAncestors(int nodeId) {
+        return getBitCount(this.ancestors[nodeId]);
+    }
+
+    /**
+     * Returns the number of descendants of a node.
+     *
+     * @param nodeId the node's index
+     * @return the number of descendants
+     */
+    public int getNumberOfDescendants(int nodeId) {
+        return getBitCount(this.descendants[nodeId]);
+    }
+
+    /**
+     * Returns the number of set bits in a bitset.
+     *
+     * @param bitset the bitset
+     * @return the number of set bits
+     */
+    private static int getBitCount(long[] bitset) {
+        int bitCount = 0;
+
+        for (long word : bitset) {
+            bitCount += Long.bitCount(word);
+        }
+
+        return bitCount;
+    }
+}
@@ -0,0 +1,112 @@
+package scheduler.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a small change to a task graph, such as re-estimated task weights, re-estimated communication costs, or
+ * newly added edges. The delta is applied to a {@link GraphModel} when an incremental scheduler is created.
+ */
+public class GraphDeltaModel {
+    private final Map<String, Integer> nodeWeights;
+
+    private final List<EdgeWeight> edgeWeights;
+
+    /**
+     * Represents the new weight of the edge between two nodes. The edge is added if it does not exist yet.
+     *
+     * @param sourceId      the id of the source node
+     * @param destinationId the id of the destination node
+     * @param weight        the new weight (communication cost) of the edge
+     */
+    public record EdgeWeight(String sourceId, String destinationId, int weight) {
+    }
+
+    /**
+     * Constructs an empty {@code GraphDeltaModel}.
+     */
+    public GraphDeltaModel() {
+        this.nodeWeights = new LinkedHashMap<>();
+        this.edgeWeights = new ArrayList<>();
+    }
+
+    /**
+     * Sets the new weight (execution time) of a node.
+     *
+     * @param nodeId the id of the node
+     * @param weight the new weight of the node
+     */
+    public void setNodeWeight(String nodeId, int weight) {
+        this.nodeWeights.put(nodeId, weight);
+    }
+
+    /**
+     * Sets the new weight of the edge between two nodes. If there is no such edge, the edge is added.
+     *
+     * @param sourceId      the id of the source node
+     * @param destinationId the id of the destination node
+     * @param weight        the new weight (communication cost) of the edge
+     */
+    public void setEdgeWeight(String sourceId, String destinationId, int weight) {
+        this.edgeWeights.add(new EdgeWeight(sourceId, destinationId, weight));
+    }
+
+    /**
+     * Returns the new node weights, keyed by node id.
+     *
+     * @return the new node weights
+     */
+    public Map<String, Integer> getNodeWeights() {
+        return this.nodeWeights;
+    }
+
+    /**
+     * Returns by how much the delta lowers the weights of the given graph in total, counting each node and edge once
+     * with its last new weight. A schedule of the changed graph is at most this much shorter than the same schedule
+     * re-timed on the given graph, as every path through a schedule passes each node and edge at most once, and a new
+     * edge only adds a constraint. So an optimal schedule of the changed graph is at most this much shorter than one of
+     * the given graph.
+     *
+     * @param graph the graph before the delta is applied
+     * @return the total weight decrease
+     */
+    public int getWeightDecrease(GraphModel graph) {
+        int weightDecrease = 0;
+
+        for (Map.Entry<String, Integer> nodeWeight : this.nodeWeights.entrySet()) {
+            NodeModel node = graph.getNode(nodeWeight.getKey());
+
+            if (node != null) {
+                weightDecrease += Math.max(0, node.getWeight() - nodeWeight.getValue());
+            }
+        }
+
+        Map<EdgeModel, Integer> edgeWeights = new LinkedHashMap<>();
+
+        for (EdgeWeight edgeWeight : this.edgeWeights) {
+            NodeModel source = graph.getNode(edgeWeight.sourceId());
+            NodeModel destination = graph.getNode(edgeWeight.destinationId());
+
+            if (source != null && destination != null && graph.getEdge(source, destination) != null) {
+                edgeWeights.put(graph.getEdge(source, destination), edgeWeight.weight());
+            }
+        }
+
+        for (Map.Entry<EdgeModel, Integer> edgeWeight : edgeWeights.entrySet()) {
+            weightDecrease += Math.max(0, edgeWeight.getKey().weight() - edgeWeight.getValue());
+        }
+
+        return weightDecrease;
+    }
+
+    /**
+     * Returns the new edge weights, in the order they were set.
+     *
+     * @return the new edge weights
+     */
+    public List<EdgeWeight> getEdgeWeights() {
+        return this.edgeWeights;
+    }
+}
@@ -0,0 +1,155 @@
+package scheduler.models;
+
+/**
+ * Represents the features of a graph that predict which scheduler searches it fastest. The features are computed in
+ * one pass over the graph's analysis, so they are cheap compared to any search.
+ */
+public class GraphFeaturesModel {
+    private final int numberOfNodes;
+    private final int numberOfEdges;
+    private final int depth;
+    private final int width;
+    private final int numberOfEquivalentNodeGroups;
+    private final int largestEquivalentNodeGroup;
+
+    private final double edgeDensity;
+    private final double communicationToComputationRatio;
+
+    /**
+     * Constructs the {@code GraphFeaturesModel} of a graph. The depth is the number of levels of the graph, where the
+     * level of a node is the number of nodes on the longest path that ends at it, and the width is the largest number
+     * of nodes on the same level.
+     *
+     * @param compiledGraph the graph's analysis
+     */
+    public GraphFeaturesModel(CompiledGraphModel compiledGraph) {
+        this.numberOfNodes = compiledGraph.getNumberOfNodes();
+
+        int[] levels = new int[this.numberOfNodes];
+        int[] levelSizes = new int[this.numberOfNodes + 1];
+
+        int numberOfEdges = 0;
+        long totalEdgeWeight = 0;
+
+        for (int nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            for (short predecessorId : compiledGraph.getPredecessorIds(nodeId)) {
+                levels[nodeId] = Math.max(levels[nodeId], levels[predecessorId]);
+
+                numberOfEdges++;
+                totalEdgeWeight += compiledGraph.getEdgeWeight(predecessorId, nodeId);
+            }
+
+            levels[nodeId]++;
+            levelSizes[levels[nodeId]]++;
+        }
+
+        int depth = 0;
+        int width = 0;
+
+        for (int level = 1; level <= this.numberOfNodes; level++) {
+            if (levelSizes[level] > 0) {
+                depth = level;
+                width = Math.max(width, levelSizes[level]);
+            }
+        }
+
+        int largestEquivalentNodeGroup = 0;
+
+        for (int groupId = 0; groupId < compiledGraph.getNumberOfEquivalentNodeGroups(); groupId++) {
+            largestEquivalentNodeGroup = Math.max(largestEquivalentNodeGroup, compiledGraph.getEquivalentNodeGroup(groupId).length);
+        }
+
+        this.numberOfEdges = numberOfEdges;
+        this.depth = depth;
+        this.width = width;
+        this.numberOfEquivalentNodeGroups = compiledGraph.getNumberOfEquivalentNodeGroups();
+        this.largestEquivalentNodeGroup = largestEquivalentNodeGroup;
+
+        this.edgeDensity = this.numberOfNodes < 2 ? 0 : 2.0 * numberOfEdges / ((double) this.numberOfNodes * (this.numberOfNodes - 1));
+        this.communicationToComputationRatio = compiledGraph.getTotalNodeWeight() == 0 ? 0 : (double) totalEdgeWeight / compiledGraph.getTotalNodeWeight();
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes
+     */
+    public int getNumberOfNodes() {
+        return this.numberOfNodes;
+    }
+
+    /**
+     * Returns the number of edges.
+     *
+     * @return the number of edges
+     */
+    public int getNumberOfEdges() {
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Returns the number of levels of the graph.
+     *
+     * @return the depth
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the largest number of nodes on the same level.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the number of equivalent node groups. A graph without equivalent nodes has one group per node.
+     *
+     * @return the number of equivalent node groups
+     */
+    public int getNumberOfEquivalentNodeGroups() {
+        return this.numberOfEquivalentNodeGroups;
+    }
+
+    /**
+     * Returns the number of nodes in the largest equivalent node group.
+     *
+     * @return the size of the largest equivalent node group
+     */
+    public int getLargestEquivalentNodeGroup() {
+        return this.largestEquivalentNodeGroup;
+    }
+
+    /**
+     * Returns the number of edges over the number of edges of a complete directed acyclic graph.
+     *
+     * @return the edge density
+     */
+    public double getEdgeDensity() {
+        return this.edgeDensity;
+    }
+
+    /**
+     * Returns the total edge weight over the total node weight.
+     *
+     * @return the communication to computation ratio
+     */
+    public double getCommunicationToComputationRatio() {
+        return this.communicationToComputationRatio;
+    }
+
+    /**
+     * Returns the features as a single line of text.
+     *
+     * @return the features
+     */
+    @Override
+    public String toString() {
+        return String.format("nodes=%d edges=%d density=%.2f ccr=%.2f depth=%d width=%d groups=%d largestGroup=%d",
+                this.numberOfNodes, this.numberOfEdges, this.edgeDensity, this.communicationToComputationRatio,
+                this.depth, this.width, this.numberOfEquivalentNodeGroups, this.largestEquivalentNodeGroup);
+    }
+}
@@ -5,6 +5,8 @@ import java.util.*;
 
 import org.graphstream.graph.Graph;
 
+import scheduler.events.EventRecorder;
+import scheduler.events.GraphLoadEvent;
 import scheduler.parsers.InputOutputParser;
 
 /**
@@ -20,7 +22,7 @@ public class GraphModel {
     private Map<String, NodeModel> nodes;
     private Map<String, EdgeModel> edges;
 
-    private List<List<NodeModel>> equivalentNodes;
+    private CompiledGraphModel compiledGraph;
 
     /**
      * Constructor for GraphModel class. Loads a graph from a DOT file and initialises the nodes
@@ -30,9 +32,21 @@ public class GraphModel {
      * @throws IOException if error occurs while reading the input file.
      */
     public GraphModel(String filename) throws IOException {
+        GraphLoadEvent event = EventRecorder.isRecording() ? new GraphLoadEvent() : null;
+
+        if (event != null) {
+            event.begin();
+        }
+
         this.graph = InputOutputParser.readDOTFile(filename);
 
         initialise();
+
+        if (event != null && event.shouldCommit()) {
+            event.filename = filename;
+            event.numberOfNodes = this.numberOfNodes;
+            event.commit();
+        }
     }
 
     public GraphModel(Graph graph) {
@@ -41,16 +55,54 @@ public class GraphModel {
         initialise();
     }
 
+    /**
+     * Constructor for GraphModel class that copies a graph and applies a graph delta to the copy. The given graph is
+     * not changed, so the schedulers of the given graph are unaffected. The analysis of the copy reuses the parts of
+     * the given graph's analysis that the delta does not affect.
+     *
+     * @param graph represents the graph to copy.
+     * @param delta represents the changes to apply to the copy.
+     * @throws IllegalArgumentException if the delta refers to an unknown node or introduces a cycle.
+     */
+    public GraphModel(GraphModel graph, GraphDeltaModel delta) {
+        this.graph = graph.graph;
+
+        this.numberOfNodes = graph.numberOfNodes;
+        this.totalNodeWeight = graph.totalNodeWeight;
+
+        this.nodes = new HashMap<>();
+        this.edges = new HashMap<>();
+
+        for (NodeModel node : graph.nodes.values()) {
+            NodeModel nodeModel = new NodeModel(node.getId(), node.getWeight());
+
+            nodeModel.setStartTime(node.getStartTime());
+            nodeModel.setProcessor(node.getProcessor());
+
+            this.nodes.put(nodeModel.getId(), nodeModel);
+        }
+
+        for (EdgeModel edge : graph.edges.values()) {
+            NodeModel source = getNode(edge.source().getId());
+            NodeModel destination = getNode(edge.destination().getId());
+
+            this.edges.put(edge.id(), new EdgeModel(edge.id(), source, destination, edge.weight()));
+
+            source.addSuccessor(destination);
+            destination.addPredecessor(source);
+        }
+
+        Set<NodeModel> changedNodes = applyDelta(delta);
+
+        this.compiledGraph = new CompiledGraphModel(graph.getCompiledGraph(), this, changedNodes);
+    }
+
     private void initialise() {
         this.numberOfNodes = 0;
         this.totalNodeWeight = 0;
 
-        this.equivalentNodes = new ArrayList<>();
-
         setNodes();
         setEdges();
-
-        findEquivalentNodes();
     }
 
     /**
@@ -122,79 +174,128 @@ public class GraphModel {
         }
     }
 
-    // Decide on a fixed order - part of pruning
-    public void findEquivalentNodes() {
-        for (NodeModel node : this.nodes.values()) {
-            boolean isEquivalentNodeGroupFound = false;
+    /**
+     * Method applies a graph delta to a copy of a graph before it is analysed. Node weights and edge weights are
+     * updated in place, and new edges are added. The underlying graph stream graph is left as it was read.
+     *
+     * @param delta represents the changes to apply.
+     * @return the nodes whose weight or edges changed.
+     * @throws IllegalArgumentException if the delta refers to an unknown node or introduces a cycle.
+     */
+    private Set<NodeModel> applyDelta(GraphDeltaModel delta) {
+        validateDelta(delta);
 
-            for (int groupId = 0; groupId < this.equivalentNodes.size(); groupId++) {
-                List<NodeModel> equivalentNodeGroup = this.equivalentNodes.get(groupId);
-                int groupSize = equivalentNodeGroup.size();
+        Set<NodeModel> changedNodes = new LinkedHashSet<>();
 
-                if (areNodesEquivalent(node, equivalentNodeGroup.get(groupSize - 1))) {
-                    node.setGroupId(groupId);
-                    equivalentNodeGroup.add(node);
-                    isEquivalentNodeGroupFound = true;
+        delta.getNodeWeights().forEach((id, weight) -> {
+            NodeModel node = getNode(id);
 
-                    break;
-                }
-            }
+            this.totalNodeWeight += weight - node.getWeight();
 
-            if (!isEquivalentNodeGroupFound) {
-                node.setGroupId(this.equivalentNodes.size());
-                this.equivalentNodes.add(new LinkedList<>(Collections.singletonList(node)));
+            node.setWeight(weight);
+
+            changedNodes.add(node);
+        });
+
+        for (GraphDeltaModel.EdgeWeight edgeWeight : delta.getEdgeWeights()) {
+            NodeModel source = getNode(edgeWeight.sourceId());
+            NodeModel destination = getNode(edgeWeight.destinationId());
+
+            String id = getEdgeId(source, destination);
+
+            if (!this.edges.containsKey(id)) {
+                source.addSuccessor(destination);
+                destination.addPredecessor(source);
             }
+
+            this.edges.put(id, new EdgeModel(id, source, destination, edgeWeight.weight()));
+
+            changedNodes.add(source);
+            changedNodes.add(destination);
         }
+
+        return changedNodes;
     }
 
-    private boolean areNodesEquivalent(NodeModel nodeA, NodeModel nodeB) {
-        if (nodeA.getWeight() != nodeB.getWeight()) {
-            return false;
+    /**
+     * Method checks that every node of the delta exists, and that the new edges keep the graph acyclic.
+     *
+     * @param delta represents the changes to validate.
+     * @throws IllegalArgumentException if the delta refers to an unknown node or introduces a cycle.
+     */
+    private void validateDelta(GraphDeltaModel delta) {
+        for (String id : delta.getNodeWeights().keySet()) {
+            if (getNode(id) == null) {
+                throw new IllegalArgumentException("Unknown node " + id);
+            }
         }
 
-        if (!nodeA.getPredecessors().equals(nodeB.getPredecessors())) {
-            return false;
-        }
+        Map<NodeModel, List<NodeModel>> newSuccessors = new HashMap<>();
 
-        if (!nodeA.getSuccessors().equals(nodeB.getSuccessors())) {
-            return false;
-        }
+        for (GraphDeltaModel.EdgeWeight edgeWeight : delta.getEdgeWeights()) {
+            NodeModel source = getNode(edgeWeight.sourceId());
+            NodeModel destination = getNode(edgeWeight.destinationId());
 
-        if (!arePredecessorEdgeWeightsEquivalent(nodeA, nodeB)) {
-            return false;
-        }
+            if (source == null || destination == null) {
+                throw new IllegalArgumentException("Unknown edge " + edgeWeight.sourceId() + " -> " + edgeWeight.destinationId());
+            }
 
-        return areSuccessorEdgeWeightsEquivalent(nodeA, nodeB);
-    }
+            if (getEdge(source, destination) != null) {
+                continue;
+            }
 
-    public List<NodeModel> getEquivalentNodeGroup(int groupId) {
-        return this.equivalentNodes.get(groupId);
+            if (isReachable(destination, source, newSuccessors)) {
+                throw new IllegalArgumentException("Edge " + source.getId() + " -> " + destination.getId() + " introduces a cycle");
+            }
+
+            newSuccessors.computeIfAbsent(source, node -> new ArrayList<>()).add(destination);
+        }
     }
 
-    private boolean arePredecessorEdgeWeightsEquivalent(NodeModel nodeA, NodeModel nodeB) {
-        for (NodeModel predecessor : nodeA.getPredecessors()) {
-            int weightA = getEdge(predecessor, nodeA).weight();
-            int weightB = getEdge(predecessor, nodeB).weight();
+    /**
+     * Method checks if the destination node can be reached from the source node, including edges not added yet.
+     *
+     * @param source represents the node to search from.
+     * @param destination represents the node to search for.
+     * @param newSuccessors represents the successors of edges that are not added yet.
+     * @return if the destination node is reachable from the source node.
+     */
+    private boolean isReachable(NodeModel source, NodeModel destination, Map<NodeModel, List<NodeModel>> newSuccessors) {
+        Set<NodeModel> visitedNodes = new HashSet<>();
+        Deque<NodeModel> deque = new ArrayDeque<>();
+
+        deque.push(source);
+
+        while (!deque.isEmpty()) {
+            NodeModel node = deque.pop();
 
-            if (weightA != weightB) {
-                return false;
+            if (node.equals(destination)) {
+                return true;
             }
+
+            if (!visitedNodes.add(node)) {
+                continue;
+            }
+
+            node.getSuccessors().forEach(deque::push);
+            newSuccessors.getOrDefault(node, Collections.emptyList()).forEach(deque::push);
         }
 
-        return true;
+        return false;
     }
 
-    private boolean areSuccessorEdgeWeightsEquivalent(NodeModel nodeA, NodeModel nodeB) {
-        for (NodeModel successor : nodeA.getSuccessors()) {
-            int weightA = getEdge(nodeA, successor).weight();
-            int weightB = getEdge(nodeB, successor).weight();
-
-            if (weightA != weightB) {
-                return false;
-            }
+    /**
+     * Method returns the analysis of the graph, which is shared by every scheduler of this graph. The analysis is
+     * built on first use.
+     *
+     * @return the compiled graph.
+     */
+    public synchronized CompiledGraphModel getCompiledGraph() {
+        if (this.compiledGraph == null) {
+            this.compiledGraph = new CompiledGraphModel(this);
         }
 
-        return true;
+        return this.compiledGraph;
     }
 
     /**
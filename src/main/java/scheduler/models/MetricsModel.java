@@ -1,10 +1,15 @@
 package scheduler.models;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import scheduler.utilities.Utility;
+
 /**
  * The MetricsModel class contains all the necessary information pertaining the scheduler itself. It contains metrics
- * for the number of opened and closed states, as well as the real time elapsed to compute the optimal schedule.
+ * for the number of opened and closed states, as well as the real time elapsed to compute the optimal schedule. The
+ * metrics of each pruning rule and lower bound of the search are also kept here.
  */
 public class MetricsModel {
     private StateModel bestState;
@@ -12,7 +17,18 @@ public class MetricsModel {
     private final AtomicInteger numberOfOpenedStates;
     private final AtomicInteger numberOfClosedStates;
 
+    private final List<RuleMetricsModel> ruleMetrics;
+
+    private List<PhaseProfileModel> phaseProfiles;
+
     private float elapsedTime;
+    private float cpuTime;
+
+    private long peakHeapUsage;
+
+    private boolean isCancelled;
+
+    private int lowerBound;
 
     /**
      * Constructor for MetricsModel class.
@@ -20,6 +36,10 @@ public class MetricsModel {
     public MetricsModel() {
         this.numberOfOpenedStates = new AtomicInteger(0);
         this.numberOfClosedStates = new AtomicInteger(0);
+
+        this.ruleMetrics = new ArrayList<>();
+
+        this.phaseProfiles = List.of();
     }
 
     /**
@@ -56,6 +76,77 @@ public class MetricsModel {
         this.numberOfClosedStates.set(numberOfClosedStates);
     }
 
+    /**
+     * Method checks if the search was cancelled before it finished, in which case the best state may not be optimal.
+     *
+     * @return if the search was cancelled
+     */
+    public boolean isCancelled() {
+        return this.isCancelled;
+    }
+
+    /**
+     * Method sets if the search was cancelled before it finished.
+     *
+     * @param isCancelled if the search was cancelled
+     */
+    public void setCancelled(boolean isCancelled) {
+        this.isCancelled = isCancelled;
+    }
+
+    /**
+     * Method returns the proven lower bound on the finish time of an optimal schedule. It equals the finish time of the
+     * best state, unless the search was cancelled.
+     *
+     * @return the proven lower bound
+     */
+    public int getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Method sets the proven lower bound on the finish time of an optimal schedule.
+     *
+     * @param lowerBound the proven lower bound
+     */
+    public void setLowerBound(int lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    /**
+     * Method returns the optimality gap between the best state and the proven lower bound, as a fraction of the finish
+     * time of the best state.
+     *
+     * @return the optimality gap
+     */
+    public double getOptimalityGap() {
+        return (this.bestState == null) ? 0.0 : Utility.getOptimalityGap(this.lowerBound, this.bestState.getMaximumFinishTime());
+    }
+
+    /**
+     * Method adds the metrics of a new pruning rule or lower bound. Rules are added when the scheduler is created,
+     * before any thread evaluates them.
+     *
+     * @param name the name of the rule
+     * @return the metrics of the rule
+     */
+    public RuleMetricsModel addRuleMetrics(String name) {
+        RuleMetricsModel metrics = new RuleMetricsModel(name);
+
+        this.ruleMetrics.add(metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Method returns the metrics of every pruning rule and lower bound, in the order they were added.
+     *
+     * @return the rule metrics
+     */
+    public List<RuleMetricsModel> getRuleMetrics() {
+        return this.ruleMetrics;
+    }
+
     /**
      * Method returns the best schedule state.
      *
@@ -92,9 +183,72 @@ public class MetricsModel {
         this.elapsedTime = elapsedTime;
     }
 
+    /**
+     * Method returns the CPU time of the process during the search in seconds, summed over every thread.
+     *
+     * @return the CPU time
+     */
+    public double getCpuTime() {
+        return this.cpuTime;
+    }
+
+    /**
+     * Method sets the CPU time of the process during the search in seconds.
+     *
+     * @param cpuTime the CPU time
+     */
+    public void setCpuTime(float cpuTime) {
+        this.cpuTime = cpuTime;
+    }
+
+    /**
+     * Method returns the peak heap usage during the search in bytes.
+     *
+     * @return the peak heap usage
+     */
+    public long getPeakHeapUsage() {
+        return this.peakHeapUsage;
+    }
+
+    /**
+     * Method sets the peak heap usage during the search in bytes.
+     *
+     * @param peakHeapUsage the peak heap usage
+     */
+    public void setPeakHeapUsage(long peakHeapUsage) {
+        this.peakHeapUsage = peakHeapUsage;
+    }
+
+    /**
+     * Method returns the profiles of the phases of the run, such as loading the graph and the search.
+     *
+     * @return the phase profiles
+     */
+    public List<PhaseProfileModel> getPhaseProfiles() {
+        return this.phaseProfiles;
+    }
+
+    /**
+     * Method sets the profiles of the phases of the run.
+     *
+     * @param phaseProfiles the phase profiles
+     */
+    public void setPhaseProfiles(List<PhaseProfileModel> phaseProfiles) {
+        this.phaseProfiles = List.copyOf(phaseProfiles);
+    }
+
+    /**
+     * Method returns the number of states opened per second of the elapsed time.
+     *
+     * @return the number of opened states per second
+     */
+    public double getOpenedStatesPerSecond() {
+        return (this.elapsedTime <= 0) ? 0.0 : this.numberOfOpenedStates.get() / (double) this.elapsedTime;
+    }
+
     /**
      * Method displays the metrics recorded such as elapsed time, number of states, best schedule finish
-     * time and memory used.
+     * time and memory used. The time spent on the rules is only shown if their evaluations were timed.
      */
     public void display() {
         System.out.println("\nMetrics:");
@@ -102,5 +256,48 @@ public class MetricsModel {
         System.out.printf("  %-25s %d%n", "Number of opened states:", this.numberOfOpenedStates.get());
         System.out.printf("  %-25s %d%n", "Number of closed states:", this.numberOfClosedStates.get());
         System.out.printf("  %-25s %d%n", "Schedule finish time:", this.bestState.getMaximumFinishTime());
+        System.out.printf("  %-25s %d%n", "Proven lower bound:", this.lowerBound);
+        System.out.printf("  %-25s %.2f%%%n", "Optimality gap:", getOptimalityGap() * 100);
+
+        if (this.isCancelled) {
+            System.out.println("  The search was cancelled, so the schedule may not be optimal.");
+        }
+
+        displayPhaseProfiles();
+
+        if (this.ruleMetrics.isEmpty()) {
+            return;
+        }
+
+        boolean isTimed = this.ruleMetrics.stream().anyMatch(metrics -> metrics.getElapsedNanoTime() > 0);
+
+        System.out.println("\nRules:");
+        System.out.printf("  %-25s %12s %12s%s%n", "Rule", "Calls", "Hits", isTimed ? String.format(" %12s", "Time (ms)") : "");
+
+        for (RuleMetricsModel metrics : this.ruleMetrics) {
+            System.out.printf("  %-25s %12d %12d%s%n", metrics.getName(), metrics.getNumberOfCalls(), metrics.getNumberOfHits(),
+                    isTimed ? String.format(" %12.1f", metrics.getElapsedNanoTime() / 1e6) : "");
+        }
+    }
+
+    /**
+     * Method displays the wall time, CPU time, allocation, peak heap and garbage collections of every profiled phase.
+     */
+    private void displayPhaseProfiles() {
+        if (this.phaseProfiles.isEmpty()) {
+            return;
+        }
+
+        System.out.println("\nProfile:");
+        System.out.printf("  %-16s %11s %11s %11s %11s %11s %6s %8s%n", "Phase", "Wall (ms)", "CPU (ms)",
+                "Thread (ms)", "Alloc (MB)", "Heap (MB)", "GCs", "GC (ms)");
+
+        for (PhaseProfileModel phaseProfile : this.phaseProfiles) {
+            System.out.printf("  %-16s %11.1f %11.1f %11.1f %11.1f %11.1f %6d %8d%n", phaseProfile.getName(),
+                    phaseProfile.getWallTime() / 1e6, phaseProfile.getProcessCpuTime() / 1e6,
+                    phaseProfile.getThreadCpuTime() / 1e6, phaseProfile.getAllocatedBytes() / 1048576.0,
+                    phaseProfile.getPeakHeapUsage() / 1048576.0, phaseProfile.getGarbageCollectionCount(),
+                    phaseProfile.getGarbageCollectionTime());
+        }
     }
 }
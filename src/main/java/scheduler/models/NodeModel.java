@@ -11,14 +11,13 @@ import java.util.Objects;
 public class NodeModel {
     private final String id;
 
-    private final int weight;
-    private int groupId;
+    private int weight;
     private int inDegree;
     private int outDegree;
     private int startTime;
     private int processor;
 
-    private byte byteId;
+    private short index;
 
     private final List<NodeModel> successors;
     private final List<NodeModel> predecessors;
@@ -34,36 +33,17 @@ public class NodeModel {
         this.id = id;
 
         this.weight = weight;
-        this.groupId = -1;
         this.inDegree = 0;
         this.outDegree = 0;
         this.startTime = -1;
         this.processor = -1;
 
-        this.byteId = (byte) -1;
+        this.index = (short) -1;
 
         this.successors = new ArrayList<>();
         this.predecessors = new ArrayList<>();
     }
 
-    /**
-     * Returns the group ID of this node. This is for node equivalence.
-     *
-     * @return the group ID this node
-     */
-    public int getGroupId() {
-        return this.groupId;
-    }
-
-    /**
-     * Sets the node's group ID.
-     *
-     * @param groupId the node's group ID
-     */
-    public void setGroupId(int groupId) {
-        this.groupId = groupId;
-    }
-
     /**
      * Returns the unique identifier of this node.
      *
@@ -74,21 +54,22 @@ public class NodeModel {
     }
 
     /**
-     * Returns the byte representation of the node's id.
+     * Returns the index of the node, which is its position in the topological ordering of its graph. The searches
+     * refer to nodes by their index.
      *
-     * @return the byte id
+     * @return the index
      */
-    public byte getByteId() {
-        return this.byteId;
+    public short getIndex() {
+        return this.index;
     }
 
     /**
-     * Sets the byte representation of the node's id.
+     * Sets the index of the node. It is only set by the analysis of the node's graph.
      *
-     * @param id the byte id to set
+     * @param index the index to set
      */
-    public void setByteId(byte id) {
-        this.byteId = id;
+    public void setIndex(short index) {
+        this.index = index;
     }
 
     /**
@@ -100,6 +81,15 @@ public class NodeModel {
         return this.weight;
     }
 
+    /**
+     * Sets the weight (execution time) of this node.
+     *
+     * @param weight the weight of the node
+     */
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
     /**
      * Returns the start time of this node in the schedule.
      *
@@ -213,13 +203,14 @@ public class NodeModel {
     }
 
     /**
-     * Computes the hash code for this node based on its id and weight.
+     * Computes the hash code for this node based on its id. The weight is left out, because it can be re-estimated
+     * while the node is stored in a hash based collection.
      *
      * @return the hash code
      */
     @Override
     public int hashCode() {
-        return Objects.hash(id, weight);
+        return Objects.hash(id);
     }
 
     /**
@@ -0,0 +1,135 @@
+package scheduler.models;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The PhaseProfileModel class contains the resources that one phase of a run used, such as loading the graph or the
+ * search itself. Every time is measured with a monotonic clock, and every count is the difference between the start
+ * and the end of the phase.
+ */
+public class PhaseProfileModel {
+    private final String name;
+
+    private final long wallTime;
+    private final long processCpuTime;
+    private final long threadCpuTime;
+    private final long allocatedBytes;
+    private final long peakHeapUsage;
+
+    private final long garbageCollectionCount;
+    private final long garbageCollectionTime;
+
+    private final Map<String, Long> allocatedBytesPerThread;
+
+    /**
+     * Constructor for PhaseProfileModel class.
+     *
+     * @param name the name of the phase
+     * @param wallTime the wall time of the phase in nanoseconds
+     * @param processCpuTime the CPU time of the process in nanoseconds, including the JIT and GC threads
+     * @param threadCpuTime the CPU time of the application threads in nanoseconds
+     * @param allocatedBytes the number of bytes allocated by the application threads
+     * @param peakHeapUsage the peak heap usage in bytes
+     * @param garbageCollectionCount the number of garbage collections
+     * @param garbageCollectionTime the time spent in garbage collections in milliseconds
+     * @param allocatedBytesPerThread the number of bytes allocated by each thread that allocated any, by name
+     */
+    public PhaseProfileModel(String name, long wallTime, long processCpuTime, long threadCpuTime, long allocatedBytes,
+                             long peakHeapUsage, long garbageCollectionCount, long garbageCollectionTime,
+                             Map<String, Long> allocatedBytesPerThread) {
+        this.name = name;
+
+        this.wallTime = wallTime;
+        this.processCpuTime = processCpuTime;
+        this.threadCpuTime = threadCpuTime;
+        this.allocatedBytes = allocatedBytes;
+        this.peakHeapUsage = peakHeapUsage;
+
+        this.garbageCollectionCount = garbageCollectionCount;
+        this.garbageCollectionTime = garbageCollectionTime;
+
+        this.allocatedBytesPerThread = Collections.unmodifiableMap(allocatedBytesPerThread);
+    }
+
+    /**
+     * Method returns the name of the phase.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Method returns the wall time of the phase in nanoseconds.
+     *
+     * @return the wall time
+     */
+    public long getWallTime() {
+        return this.wallTime;
+    }
+
+    /**
+     * Method returns the CPU time of the process during the phase in nanoseconds, including the JIT and GC threads.
+     *
+     * @return the process CPU time
+     */
+    public long getProcessCpuTime() {
+        return this.processCpuTime;
+    }
+
+    /**
+     * Method returns the CPU time of the application threads during the phase in nanoseconds.
+     *
+     * @return the thread CPU time
+     */
+    public long getThreadCpuTime() {
+        return this.threadCpuTime;
+    }
+
+    /**
+     * Method returns the number of bytes allocated by the application threads during the phase.
+     *
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Method returns the peak heap usage during the phase in bytes.
+     *
+     * @return the peak heap usage
+     */
+    public long getPeakHeapUsage() {
+        return this.peakHeapUsage;
+    }
+
+    /**
+     * Method returns the number of garbage collections during the phase.
+     *
+     * @return the number of garbage collections
+     */
+    public long getGarbageCollectionCount() {
+        return this.garbageCollectionCount;
+    }
+
+    /**
+     * Method returns the time spent in garbage collections during the phase in milliseconds.
+     *
+     * @return the garbage collection time
+     */
+    public long getGarbageCollectionTime() {
+        return this.garbageCollectionTime;
+    }
+
+    /**
+     * Method returns the number of bytes allocated by each thread during the phase, by the name of the thread.
+     *
+     * @return the allocated bytes per thread
+     */
+    public Map<String, Long> getAllocatedBytesPerThread() {
+        return this.allocatedBytesPerThread;
+    }
+}
@@ -0,0 +1,109 @@
+package scheduler.models;
+
+import scheduler.utilities.Utility;
+
+/**
+ * The ProgressModel class is a snapshot of a running search, that is, the state it is expanding, its best state and
+ * lower bound so far, and the number of states it has opened. The throughput is measured since the previous snapshot.
+ */
+public class ProgressModel {
+    private final long startNanoTime;
+    private final long nanoTime;
+
+    private final int numberOfOpenedStates;
+    private final double openedStatesPerSecond;
+
+    private final int lowerBound;
+
+    private final StateModel currentState;
+    private final StateModel bestState;
+
+    /**
+     * Constructor for ProgressModel class.
+     *
+     * @param previousProgress the previous snapshot, or null if this is the first snapshot
+     * @param nanoTime the time of the snapshot
+     * @param numberOfOpenedStates the number of opened states so far
+     * @param lowerBound the highest lower bound so far
+     * @param currentState the state being expanded
+     * @param bestState the best state so far
+     */
+    public ProgressModel(ProgressModel previousProgress, long nanoTime, int numberOfOpenedStates, int lowerBound,
+                         StateModel currentState, StateModel bestState) {
+        this.startNanoTime = (previousProgress == null) ? nanoTime : previousProgress.startNanoTime;
+        this.nanoTime = nanoTime;
+
+        this.numberOfOpenedStates = numberOfOpenedStates;
+        this.openedStatesPerSecond = (previousProgress == null || nanoTime == previousProgress.nanoTime) ? 0 :
+                (numberOfOpenedStates - previousProgress.numberOfOpenedStates) * 1e9 / (nanoTime - previousProgress.nanoTime);
+
+        this.lowerBound = lowerBound;
+
+        this.currentState = currentState;
+        this.bestState = bestState;
+    }
+
+    /**
+     * Method returns the time since the first snapshot of the search in seconds.
+     *
+     * @return the elapsed time in seconds
+     */
+    public float getElapsedTime() {
+        return (this.nanoTime - this.startNanoTime) / 1e9f;
+    }
+
+    /**
+     * Method returns the number of opened states so far.
+     *
+     * @return the number of opened states
+     */
+    public int getNumberOfOpenedStates() {
+        return this.numberOfOpenedStates;
+    }
+
+    /**
+     * Method returns the number of states opened per second since the previous snapshot.
+     *
+     * @return the throughput of the search
+     */
+    public double getOpenedStatesPerSecond() {
+        return this.openedStatesPerSecond;
+    }
+
+    /**
+     * Method returns the highest lower bound so far, or 0 if the search reports no lower bound.
+     *
+     * @return the lower bound
+     */
+    public int getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Method returns the optimality gap between the best state so far and the lower bound, as a fraction of the finish
+     * time of the best state.
+     *
+     * @return the optimality gap, or 1 if no complete state was found yet
+     */
+    public double getOptimalityGap() {
+        return (this.bestState == null) ? 1.0 : Utility.getOptimalityGap(this.lowerBound, this.bestState.getMaximumFinishTime());
+    }
+
+    /**
+     * Method returns the state being expanded.
+     *
+     * @return the current state
+     */
+    public StateModel getCurrentState() {
+        return this.currentState;
+    }
+
+    /**
+     * Method returns the best state so far, or null if no complete state was found yet.
+     *
+     * @return the best state
+     */
+    public StateModel getBestState() {
+        return this.bestState;
+    }
+}
@@ -0,0 +1,89 @@
+package scheduler.models;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The RuleMetricsModel class contains the metrics of a single pruning rule or lower bound, that is, the number of
+ * times it was evaluated, the number of times it was hit, and the time spent evaluating it. A pruning rule is hit when
+ * it prunes a state, and a lower bound is hit when it is the largest lower bound of a state.
+ */
+public class RuleMetricsModel {
+    private final String name;
+
+    private final LongAdder numberOfCalls;
+    private final LongAdder numberOfHits;
+    private final LongAdder elapsedNanoTime;
+
+    /**
+     * Constructor for RuleMetricsModel class.
+     *
+     * @param name the name of the rule
+     */
+    public RuleMetricsModel(String name) {
+        this.name = name;
+
+        this.numberOfCalls = new LongAdder();
+        this.numberOfHits = new LongAdder();
+        this.elapsedNanoTime = new LongAdder();
+    }
+
+    /**
+     * Method returns the name of the rule.
+     *
+     * @return the name of the rule
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Method returns the number of times the rule was evaluated.
+     *
+     * @return the number of calls
+     */
+    public long getNumberOfCalls() {
+        return this.numberOfCalls.sum();
+    }
+
+    /**
+     * Method returns the number of times the rule was hit.
+     *
+     * @return the number of hits
+     */
+    public long getNumberOfHits() {
+        return this.numberOfHits.sum();
+    }
+
+    /**
+     * Method returns the time spent evaluating the rule in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanoTime() {
+        return this.elapsedNanoTime.sum();
+    }
+
+    /**
+     * Method records a single evaluation of the rule without timing it.
+     */
+    public void addCall() {
+        this.numberOfCalls.increment();
+    }
+
+    /**
+     * Method records a single timed evaluation of the rule.
+     *
+     * @param elapsedNanoTime the time spent evaluating the rule in nanoseconds
+     */
+    public void addCall(long elapsedNanoTime) {
+        this.numberOfCalls.increment();
+        this.elapsedNanoTime.add(elapsedNanoTime);
+    }
+
+    /**
+     * Method records a single hit of the rule.
+     */
+    public void addHit() {
+        this.numberOfHits.increment();
+    }
+}
@@ -1,31 +1,49 @@
 package scheduler.models;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
  * Represents the state of a scheduling process at a given point in time.
  * Stores information about scheduled nodes, their start times, processors, and finish times.
  * Used in algorithms like branch-and-bound to keep track of the current scheduling state.
+ * A child state can be created lazily on top of its parent, in which case it only stores the added node and reads
+ * everything else from the parent until it is materialised. A lazy state may be read and materialised by several
+ * threads at once, e.g. by the search and by the visualiser.
  */
 public class StateModel {
-    private byte lastNodeId;
-    private final byte numberOfNodes;
+    private static final short[] EMPTY_PROCESSOR = new short[0];
+
+    public static final int ENCODED_HEADER_SIZE = 10;
+
+    private short lastNodeId;
+    private final short numberOfNodes;
     private final byte numberOfProcessors;
-    private byte numberOfScheduledNodes;
+    private short numberOfScheduledNodes;
 
     private int fCost;
+    private int storedFCost;
     private int totalIdleTime;
     private int maximumFinishTime;
     private int maximumBottomLevelPathLength;
     private int parentMaximumBottomLevelPathLength;
 
-    private final int[] finishTimes;
-    private final int[] nodeStartTimes;
+    private int[] finishTimes;
+    private int[] nodeStartTimes;
+
+    private byte[] nodeProcessors;
+    private byte[] normalisedProcessors;
+
+    private short[][] processorNodeIds;
 
-    private final byte[] nodeProcessors;
-    private final byte[] normalisedProcessors;
+    private boolean[] scheduledNodes;
 
-    private final boolean[] scheduledNodes;
+    private AllocationModel allocation;
+
+    private volatile StateModel parent;
+    private NodeModel parentNode;
+    private byte parentNodeProcessor;
+    private int parentNodeStartTime;
 
     /**
      * Constructs a new {@code StateModel} with the specified number of processors and nodes.
@@ -34,7 +52,7 @@ public class StateModel {
      * @param numberOfProcessors the number of processors available for scheduling
      * @param numberOfNodes      the total number of nodes to schedule
      */
-    public StateModel(byte numberOfProcessors, byte numberOfNodes) {
+    public StateModel(byte numberOfProcessors, short numberOfNodes) {
         this.numberOfNodes = numberOfNodes;
         this.totalIdleTime = 0;
         this.maximumFinishTime = 0;
@@ -49,22 +67,28 @@ public class StateModel {
 
         this.nodeProcessors = new byte[numberOfNodes];
         this.normalisedProcessors = new byte[numberOfNodes];
+        this.processorNodeIds = new short[numberOfProcessors][];
 
         this.scheduledNodes = new boolean[numberOfNodes];
 
         Arrays.fill(this.nodeProcessors, (byte) -1);
         Arrays.fill(this.normalisedProcessors, (byte) -1);
+        Arrays.fill(this.processorNodeIds, EMPTY_PROCESSOR);
     }
 
     /**
-     * Constructs a new {@code StateModel} as a deep copy of the given state.
+     * Constructs a new {@code StateModel} as a deep copy of the given state. The task sequences of the processors are
+     * never modified in place, so they are shared with the given state.
      *
      * @param state the state to copy
      */
     public StateModel(StateModel state) {
+        state.materialise();
+
         this.lastNodeId = state.lastNodeId;
 
         this.fCost = state.fCost;
+        this.storedFCost = state.storedFCost;
         this.numberOfNodes = state.numberOfNodes;
         this.totalIdleTime = state.totalIdleTime;
         this.maximumFinishTime = state.maximumFinishTime;
@@ -80,32 +104,207 @@ public class StateModel {
         this.nodeProcessors = state.nodeProcessors.clone();
         this.scheduledNodes = state.scheduledNodes.clone();
         this.normalisedProcessors = state.normalisedProcessors.clone();
+        this.processorNodeIds = state.processorNodeIds.clone();
+
+        this.allocation = state.allocation;
+    }
+
+    /**
+     * Constructs a new {@code StateModel} as a deep copy of the given state on a different number of processors. The
+     * number of processors must not be smaller than the number of processors used by the given state.
+     *
+     * @param state              the state to copy
+     * @param numberOfProcessors the number of processors of the copied state
+     */
+    public StateModel(StateModel state, byte numberOfProcessors) {
+        state.materialise();
+
+        this.lastNodeId = state.lastNodeId;
+
+        this.fCost = state.fCost;
+        this.storedFCost = state.storedFCost;
+        this.numberOfNodes = state.numberOfNodes;
+        this.totalIdleTime = state.totalIdleTime;
+        this.maximumFinishTime = state.maximumFinishTime;
+        this.maximumBottomLevelPathLength = state.maximumBottomLevelPathLength;
+        this.parentMaximumBottomLevelPathLength = state.parentMaximumBottomLevelPathLength;
+
+        this.numberOfProcessors = numberOfProcessors;
+        this.numberOfScheduledNodes = state.numberOfScheduledNodes;
+
+        this.finishTimes = Arrays.copyOf(state.finishTimes, numberOfProcessors);
+        this.nodeStartTimes = state.nodeStartTimes.clone();
+
+        this.nodeProcessors = state.nodeProcessors.clone();
+        this.scheduledNodes = state.scheduledNodes.clone();
+        this.normalisedProcessors = state.normalisedProcessors.clone();
+        this.processorNodeIds = Arrays.copyOf(state.processorNodeIds, numberOfProcessors);
+
+        Arrays.fill(this.processorNodeIds, state.numberOfProcessors, numberOfProcessors, EMPTY_PROCESSOR);
+
+        this.allocation = state.allocation;
+    }
+
+    /**
+     * Constructs a new lazy {@code StateModel} that schedules a node on a processor of the given parent state. Only
+     * the node, the processor, the start time and the scalar values are stored, and every other read is answered by
+     * the parent. The arrays are copied when the state is materialised, which happens before it is hashed, compared or
+     * changed, so a child that is pruned right away never copies its parent. The parent must not change while its
+     * child is lazy.
+     *
+     * @param parent    the parent state
+     * @param node      the node to schedule
+     * @param processor the processor to schedule the node on
+     * @param startTime the start time for the node
+     */
+    public StateModel(StateModel parent, NodeModel node, byte processor, int startTime) {
+        parent.materialise();
+
+        this.parent = parent;
+        this.parentNode = node;
+        this.parentNodeProcessor = processor;
+        this.parentNodeStartTime = startTime;
+
+        this.lastNodeId = node.getIndex();
+
+        this.fCost = parent.fCost;
+        this.storedFCost = parent.fCost;
+        this.numberOfNodes = parent.numberOfNodes;
+        this.totalIdleTime = parent.totalIdleTime + Math.max(0, startTime - parent.finishTimes[processor]);
+        this.maximumFinishTime = Math.max(parent.maximumFinishTime, startTime + node.getWeight());
+        this.maximumBottomLevelPathLength = parent.maximumBottomLevelPathLength;
+        this.parentMaximumBottomLevelPathLength = parent.parentMaximumBottomLevelPathLength;
+
+        this.numberOfProcessors = parent.numberOfProcessors;
+        this.numberOfScheduledNodes = (short) (parent.numberOfScheduledNodes + 1);
+
+        this.allocation = parent.allocation;
+    }
+
+    /**
+     * Constructs a new {@code StateModel} of the allocation-ordering state space, which has the scheduled nodes of
+     * the given state and the given allocation. The arrays are shared with the given state, which is used for the
+     * states of the allocation phase, as they share the arrays of the empty state. Neither state may be changed
+     * afterwards.
+     *
+     * @param state      the state whose scheduled nodes are shared
+     * @param allocation the allocation of the nodes to processors
+     */
+    public StateModel(StateModel state, AllocationModel allocation) {
+        state.materialise();
+
+        this.lastNodeId = state.lastNodeId;
+
+        this.fCost = state.fCost;
+        this.storedFCost = state.storedFCost;
+        this.numberOfNodes = state.numberOfNodes;
+        this.totalIdleTime = state.totalIdleTime;
+        this.maximumFinishTime = state.maximumFinishTime;
+        this.maximumBottomLevelPathLength = state.maximumBottomLevelPathLength;
+        this.parentMaximumBottomLevelPathLength = state.parentMaximumBottomLevelPathLength;
+
+        this.numberOfProcessors = state.numberOfProcessors;
+        this.numberOfScheduledNodes = state.numberOfScheduledNodes;
+
+        this.finishTimes = state.finishTimes;
+        this.nodeStartTimes = state.nodeStartTimes;
+
+        this.nodeProcessors = state.nodeProcessors;
+        this.scheduledNodes = state.scheduledNodes;
+        this.normalisedProcessors = state.normalisedProcessors;
+        this.processorNodeIds = state.processorNodeIds;
+
+        this.allocation = allocation;
+    }
+
+    /**
+     * Copies the parent's arrays into a lazy state and adds its node to them. It does nothing if the state is not
+     * lazy. The arrays are complete before the parent is cleared, so a thread that reads the state while another
+     * thread materialises it either reads through the parent or reads the complete arrays. Only one thread copies
+     * the arrays, so a node is never placed twice.
+     */
+    public void materialise() {
+        if (this.parent == null) {
+            return;
+        }
+
+        synchronized (this) {
+            StateModel parent = this.parent;
+
+            if (parent == null) {
+                return;
+            }
+
+            this.finishTimes = parent.finishTimes.clone();
+            this.nodeStartTimes = parent.nodeStartTimes.clone();
+
+            this.nodeProcessors = parent.nodeProcessors.clone();
+            this.scheduledNodes = parent.scheduledNodes.clone();
+            this.normalisedProcessors = parent.normalisedProcessors.clone();
+            this.processorNodeIds = parent.processorNodeIds.clone();
+
+            placeNode(this.parentNode, this.parentNodeProcessor, this.parentNodeStartTime);
+
+            this.parent = null;
+        }
+    }
+
+    /**
+     * Checks if the state is lazy, i.e., it has not copied its parent's arrays yet.
+     *
+     * @return true if the state is lazy; false otherwise
+     */
+    public boolean isLazy() {
+        return (this.parent != null);
     }
 
     /**
      * Adds a node to the current state by scheduling it on a processor at a specific start time.
-     * Updates finish times, scheduled nodes, and maximum finish time accordingly.
+     * Updates finish times, scheduled nodes, and maximum finish time accordingly. A node always starts after the
+     * nodes already on its processor, so it is appended to a copy of the processor's task sequence, which leaves the
+     * sequence shared with the parent state unchanged.
      *
      * @param node      the node to schedule
      * @param processor the processor to schedule the node on
      * @param startTime the start time for the node
      */
     public void addNode(NodeModel node, byte processor, int startTime) {
-        byte nodeId = node.getByteId();
+        materialise();
+
+        short nodeId = node.getIndex();
 
         updateTotalIdleTime(processor, startTime);
 
+        placeNode(node, processor, startTime);
+
+        this.lastNodeId = nodeId;
+        this.maximumFinishTime = Math.max(this.maximumFinishTime, this.finishTimes[processor]);
+
+        ++this.numberOfScheduledNodes;
+    }
+
+    /**
+     * Places a node on a processor in the arrays of the state. It only writes the arrays, so it can be called while
+     * the state is still lazy.
+     *
+     * @param node      the node to place
+     * @param processor the processor to place the node on
+     * @param startTime the start time for the node
+     */
+    private void placeNode(NodeModel node, byte processor, int startTime) {
+        short nodeId = node.getIndex();
+
         this.nodeProcessors[nodeId] = processor;
         this.nodeStartTimes[nodeId] = startTime;
         this.finishTimes[processor] = startTime + node.getWeight();
 
-        scheduleNode(nodeId);
-        normaliseProcessors();
+        short[] nodeIds = this.processorNodeIds[processor];
 
-        this.lastNodeId = nodeId;
-        this.maximumFinishTime = Math.max(this.maximumFinishTime, this.finishTimes[processor]);
+        this.processorNodeIds[processor] = Arrays.copyOf(nodeIds, nodeIds.length + 1);
+        this.processorNodeIds[processor][nodeIds.length] = nodeId;
 
-        ++this.numberOfScheduledNodes;
+        this.scheduledNodes[nodeId] = true;
+        normaliseProcessors();
     }
 
     /**
@@ -119,8 +318,8 @@ public class StateModel {
 
         Arrays.fill(nodeProcessorNormalisationIndices, (byte) -1);
 
-        for (byte nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
-            if (isNodeScheduled(nodeId)) {
+        for (short nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            if (this.scheduledNodes[nodeId]) {
                 byte nodeProcessorIndex = this.nodeProcessors[nodeId];
 
                 if (nodeProcessorNormalisationIndices[nodeProcessorIndex] == -1) {
@@ -139,6 +338,8 @@ public class StateModel {
      * @param startTime the start time
      */
     public void updateTotalIdleTime(int processor, int startTime) {
+        materialise();
+
         this.totalIdleTime += Math.max(0, startTime - this.finishTimes[processor]);
     }
 
@@ -160,12 +361,23 @@ public class StateModel {
         return (this.numberOfScheduledNodes == 0);
     }
 
+    /**
+     * Returns the number of scheduled nodes, which is the depth of the state in the search.
+     *
+     * @return the number of scheduled nodes
+     */
+    public short getNumberOfScheduledNodes() {
+        return this.numberOfScheduledNodes;
+    }
+
     /**
      * Returns the list of node/task start times.
      *
      * @return an array of node/task start times
      */
     public int[] getNodeStartTimes() {
+        materialise();
+
         return this.nodeStartTimes;
     }
 
@@ -207,11 +419,13 @@ public class StateModel {
     }
 
     /**
-     * Marks a node as scheduled using its byte ID.
+     * Marks a node as scheduled using its index.
      *
-     * @param nodeId the byte ID of the node to mark as scheduled
+     * @param nodeId the index of the node to mark as scheduled
      */
-    public void scheduleNode(byte nodeId) {
+    public void scheduleNode(int nodeId) {
+        materialise();
+
         this.scheduledNodes[nodeId] = true;
     }
 
@@ -222,7 +436,7 @@ public class StateModel {
      * @return the start time of the node
      */
     public int getNodeStartTime(NodeModel node) {
-        return this.nodeStartTimes[node.getByteId()];
+        return getNodeStartTime(node.getIndex());
     }
 
     /**
@@ -231,7 +445,13 @@ public class StateModel {
      * @param nodeId the node id
      * @return node start time
      */
-    public int getNodeStartTime(byte nodeId) {
+    public int getNodeStartTime(int nodeId) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            return (nodeId == this.lastNodeId) ? this.parentNodeStartTime : parent.getNodeStartTime(nodeId);
+        }
+
         return this.nodeStartTimes[nodeId];
     }
 
@@ -240,7 +460,7 @@ public class StateModel {
      *
      * @return the last node scheduled
      */
-    public byte getLastNode() {
+    public short getLastNode() {
         return this.lastNodeId;
     }
 
@@ -251,7 +471,7 @@ public class StateModel {
      * @return true if the node is scheduled; false otherwise
      */
     public boolean isNodeScheduled(NodeModel node) {
-        return this.scheduledNodes[node.getByteId()];
+        return isNodeScheduled(node.getIndex());
     }
 
     /**
@@ -290,6 +510,9 @@ public class StateModel {
             return false;
         }
 
+        this.materialise();
+        that.materialise();
+
         if (this.numberOfNodes != that.numberOfNodes || this.numberOfScheduledNodes != that.numberOfScheduledNodes) {
             return false;
         }
@@ -298,7 +521,7 @@ public class StateModel {
             return false;
         }
 
-        for (byte nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+        for (short nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
             if (this.scheduledNodes[nodeId] != that.scheduledNodes[nodeId]) {
                 continue;
             }
@@ -327,6 +550,12 @@ public class StateModel {
      * @return is the node scheduled
      */
     public boolean isNodeScheduled(int nodeId) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            return (nodeId == this.lastNodeId) || parent.isNodeScheduled(nodeId);
+        }
+
         return this.scheduledNodes[nodeId];
     }
 
@@ -337,6 +566,8 @@ public class StateModel {
      */
     @Override
     public int hashCode() {
+        materialise();
+
         int result = Objects.hash(this.numberOfNodes, this.numberOfScheduledNodes);
 
         result = 31 * result + Arrays.hashCode(this.scheduledNodes);
@@ -346,6 +577,98 @@ public class StateModel {
         return result;
     }
 
+    /**
+     * Returns the number of bytes of an encoded state.
+     *
+     * @param numberOfNodes the number of nodes
+     * @return the number of bytes of an encoded state
+     */
+    public static int getEncodedSize(short numberOfNodes) {
+        return ENCODED_HEADER_SIZE + 5 * numberOfNodes;
+    }
+
+    /**
+     * Writes the state in a compact binary layout. The header has the f-cost, the maximum bottom level path length and
+     * the last node. It is followed by the normalised processor and the start time of each node, with -1 for an
+     * unscheduled node, so two equal states have the same bytes after the header.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void encode(ByteBuffer buffer) {
+        materialise();
+
+        buffer.putInt(this.fCost);
+        buffer.putInt(this.maximumBottomLevelPathLength);
+        buffer.putShort(this.lastNodeId);
+
+        for (short nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
+            if (this.scheduledNodes[nodeId]) {
+                buffer.put(this.normalisedProcessors[nodeId]);
+                buffer.putInt(this.nodeStartTimes[nodeId]);
+            } else {
+                buffer.put((byte) -1);
+                buffer.putInt(-1);
+            }
+        }
+    }
+
+    /**
+     * Reads a state that was written by {@link #encode(ByteBuffer)}. The nodes are added in the order of their start
+     * times, and the last node is added last, so the processors' task sequences, the idle time and the last node are
+     * the same as in the written state.
+     *
+     * @param buffer             the buffer to read from
+     * @param nodes              the nodes in the order of their indices
+     * @param numberOfProcessors the number of processors
+     * @return the state
+     */
+    public static StateModel decode(ByteBuffer buffer, NodeModel[] nodes, byte numberOfProcessors) {
+        short numberOfNodes = (short) nodes.length;
+
+        int fCost = buffer.getInt();
+        int maximumBottomLevelPathLength = buffer.getInt();
+        short lastNodeId = buffer.getShort();
+
+        byte[] processors = new byte[numberOfNodes];
+        int[] startTimes = new int[numberOfNodes];
+
+        for (short nodeId = 0; nodeId < numberOfNodes; nodeId++) {
+            processors[nodeId] = buffer.get();
+            startTimes[nodeId] = buffer.getInt();
+        }
+
+        StateModel state = new StateModel(numberOfProcessors, numberOfNodes);
+
+        while (true) {
+            short nextNodeId = -1;
+
+            for (short nodeId = 0; nodeId < numberOfNodes; nodeId++) {
+                if (processors[nodeId] == -1 || state.isNodeScheduled(nodeId) || nodeId == lastNodeId) {
+                    continue;
+                }
+
+                if (nextNodeId == -1 || startTimes[nodeId] < startTimes[nextNodeId]) {
+                    nextNodeId = nodeId;
+                }
+            }
+
+            if (nextNodeId == -1) {
+                break;
+            }
+
+            state.addNode(nodes[nextNodeId], processors[nextNodeId], startTimes[nextNodeId]);
+        }
+
+        if (processors[lastNodeId] != -1) {
+            state.addNode(nodes[lastNodeId], processors[lastNodeId], startTimes[lastNodeId]);
+        }
+
+        state.setFCost(fCost);
+        state.setMaximumBottomLevelPathLength(maximumBottomLevelPathLength);
+
+        return state;
+    }
+
     /**
      * Creates a cloned state model
      *
@@ -363,28 +686,91 @@ public class StateModel {
      * @return the processor assigned to the node
      */
     public byte getNodeProcessor(NodeModel node) {
-        return this.nodeProcessors[node.getByteId()];
+        return getNodeProcessor(node.getIndex());
     }
 
     /**
-     * Returns a list of nodes on the same processor sorted by their start time. It is used for schedule equivalence
-     * pruning.
+     * Returns the processor assigned to the node with the corresponding node id.
+     *
+     * @param nodeId the node id
+     * @return the processor assigned to the node
+     */
+    public byte getNodeProcessor(int nodeId) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            return (nodeId == this.lastNodeId) ? this.parentNodeProcessor : parent.getNodeProcessor(nodeId);
+        }
+
+        return this.nodeProcessors[nodeId];
+    }
+
+    /**
+     * Returns the number of processors of the current state/schedule.
+     *
+     * @return the number of processors
+     */
+    public byte getNumberOfProcessors() {
+        return this.numberOfProcessors;
+    }
+
+    /**
+     * Returns the number of nodes scheduled on a processor.
+     *
+     * @param processor the processor
+     * @return the number of nodes on the processor
+     */
+    public int getNumberOfNodesOnProcessor(byte processor) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            int numberOfNodesOnProcessor = parent.getNumberOfNodesOnProcessor(processor);
+
+            return (processor == this.parentNodeProcessor) ? numberOfNodesOnProcessor + 1 : numberOfNodesOnProcessor;
+        }
+
+        return this.processorNodeIds[processor].length;
+    }
+
+    /**
+     * Returns the ids of the nodes on a processor, sorted by their start time. The sequence is shared between states
+     * and must not be modified.
      *
      * @param processor the processor to check
-     * @return a list of nodes on the same processor sorted by their start time
+     * @return the ids of the nodes on the processor
      */
-    public List<Byte> getNodesOnSameProcessorSortedOnStartTime(byte processor) {
-        List<Byte> nodesOnSameProcessor = new ArrayList<>();
+    public short[] getNodesOnProcessor(byte processor) {
+        materialise();
 
-        for (byte nodeId = 0; nodeId < this.numberOfNodes; nodeId++) {
-            if (this.nodeProcessors[nodeId] == processor) {
-                nodesOnSameProcessor.add(nodeId);
+        return this.processorNodeIds[processor];
+    }
+
+    /**
+     * Copies the ids of the nodes on a processor, sorted by their start time, into the given buffer. It is used for
+     * schedule equivalence pruning, which re-orders the copied sequence.
+     *
+     * @param processor the processor to check
+     * @param nodeIds the buffer of at least {@link #getNumberOfNodesOnProcessor(byte)} node ids
+     * @return the number of nodes on the processor
+     */
+    public int getNodesOnProcessor(byte processor, short[] nodeIds) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            int numberOfNodesOnProcessor = parent.getNodesOnProcessor(processor, nodeIds);
+
+            if (processor == this.parentNodeProcessor) {
+                nodeIds[numberOfNodesOnProcessor++] = this.lastNodeId;
             }
+
+            return numberOfNodesOnProcessor;
         }
 
-        nodesOnSameProcessor.sort(Comparator.comparingInt(this::getNodeStartTime));
+        short[] processorNodeIds = this.processorNodeIds[processor];
 
-        return nodesOnSameProcessor;
+        System.arraycopy(processorNodeIds, 0, nodeIds, 0, processorNodeIds.length);
+
+        return processorNodeIds.length;
     }
 
     /**
@@ -393,15 +779,64 @@ public class StateModel {
      * @return the finish time for a specific processor
      */
     public int getFinishTime(byte processor) {
+        StateModel parent = this.parent;
+
+        if (parent != null) {
+            if (processor == this.parentNodeProcessor) {
+                return this.parentNodeStartTime + this.parentNode.getWeight();
+            }
+
+            return parent.getFinishTime(processor);
+        }
+
         return this.finishTimes[processor];
     }
 
     /**
-     * Sets the f-cost of the current state/schedule.
+     * Returns the allocation of the nodes to processors in the allocation-ordering state space. It is null in the
+     * exhaustive list scheduling state space.
+     *
+     * @return the allocation
+     */
+    public AllocationModel getAllocation() {
+        return this.allocation;
+    }
+
+    /**
+     * Returns the f-cost of the current state/schedule.
+     *
+     * @return the f-cost
+     */
+    public int getFCost() {
+        return this.fCost;
+    }
+
+    /**
+     * Sets the f-cost of the current state/schedule. The stored f-cost is reset to the f-cost.
      *
      * @param fCost the f-cost to be set
      */
     public void setFCost(int fCost) {
         this.fCost = fCost;
+        this.storedFCost = fCost;
+    }
+
+    /**
+     * Returns the stored f-cost of the current state/schedule, which orders the queue of opened states. It equals the
+     * f-cost, unless the state was partially expanded and re-inserted with the f-cost of its best remaining child.
+     *
+     * @return the stored f-cost
+     */
+    public int getStoredFCost() {
+        return this.storedFCost;
+    }
+
+    /**
+     * Sets the stored f-cost of the current state/schedule.
+     *
+     * @param storedFCost the stored f-cost to be set
+     */
+    public void setStoredFCost(int storedFCost) {
+        this.storedFCost = storedFCost;
     }
 }
@@ -1,5 +1,9 @@
 package scheduler.parsers;
 
+import scheduler.enums.SearchModelType;
+
+import java.time.Duration;
+
 /**
  * Arguments class for storing user arguments, such as the input file location, the output file location, the number of
  * sdf cores, etc.,
@@ -11,7 +15,26 @@ public class Arguments {
     private String inputDOTFilePath;
     private String outputDOTFilePath;
 
+    private byte[] sweepProcessors;
+
+    private String externalMemoryDirectory;
+
+    private Duration timeout;
+
+    private double epsilon;
+
+    private int beamWidth;
+
+    private String metricsJSONFilePath;
+    private String metricsPrometheusFilePath;
+
     private boolean isVisualiseSearch;
+    private boolean isPartialExpansion;
+    private boolean isFrontierSearch;
+    private boolean isPortfolio;
+    private boolean isSchedulerSelection;
+
+    private SearchModelType searchModelType;
 
     /**
      * Instantiates a new Arguments instance.
@@ -19,6 +42,7 @@ public class Arguments {
     public Arguments() {
         this.cores = 1;
         this.isVisualiseSearch = false;
+        this.searchModelType = SearchModelType.EXHAUSTIVE_LIST_SCHEDULING;
     }
 
     /**
@@ -57,6 +81,160 @@ public class Arguments {
         this.processors = processors;
     }
 
+    /**
+     * Gets the processor counts for the processor sweep. This is null if no processor sweep was requested.
+     *
+     * @return the processor counts for the processor sweep
+     */
+    public byte[] getSweepProcessors() {
+        return this.sweepProcessors;
+    }
+
+    /**
+     * Sets the processor counts for the processor sweep.
+     *
+     * @param sweepProcessors the processor counts for the processor sweep
+     */
+    public void setSweepProcessors(byte[] sweepProcessors) {
+        this.sweepProcessors = sweepProcessors;
+    }
+
+    /**
+     * Checks if the user requested a processor sweep or not.
+     *
+     * @return if a processor sweep was requested
+     */
+    public boolean isProcessorSweep() {
+        return this.sweepProcessors != null;
+    }
+
+    /**
+     * Gets the directory of the external memory search. This is null if the search should stay in memory.
+     *
+     * @return the directory of the external memory search
+     */
+    public String getExternalMemoryDirectory() {
+        return this.externalMemoryDirectory;
+    }
+
+    /**
+     * Sets the directory of the external memory search.
+     *
+     * @param externalMemoryDirectory the directory of the external memory search
+     */
+    public void setExternalMemoryDirectory(String externalMemoryDirectory) {
+        this.externalMemoryDirectory = externalMemoryDirectory;
+    }
+
+    /**
+     * Gets the time the search may run, or null if it may run until it finishes.
+     *
+     * @return the timeout of the search
+     */
+    public Duration getTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Sets the time the search may run.
+     *
+     * @param timeout the timeout of the search
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the factor by which the schedule may be longer than an optimal schedule, which is 0 if it must be optimal.
+     *
+     * @return the epsilon of the search
+     */
+    public double getEpsilon() {
+        return this.epsilon;
+    }
+
+    /**
+     * Sets the factor by which the schedule may be longer than an optimal schedule.
+     *
+     * @param epsilon the epsilon of the search
+     */
+    public void setEpsilon(double epsilon) {
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * Gets the number of states kept in each layer of the beam search, or 0 if the search is exact.
+     *
+     * @return the beam width
+     */
+    public int getBeamWidth() {
+        return this.beamWidth;
+    }
+
+    /**
+     * Sets the number of states kept in each layer of the beam search.
+     *
+     * @param beamWidth the beam width
+     */
+    public void setBeamWidth(int beamWidth) {
+        this.beamWidth = beamWidth;
+    }
+
+    /**
+     * Checks if the search is a beam search.
+     *
+     * @return true if the search is a beam search
+     */
+    public boolean isBeamSearch() {
+        return this.beamWidth > 0;
+    }
+
+    /**
+     * Gets the file that the metrics of the run are written to as JSON, or null if they are not written.
+     *
+     * @return the metrics JSON file path
+     */
+    public String getMetricsJSONFilePath() {
+        return this.metricsJSONFilePath;
+    }
+
+    /**
+     * Sets the file that the metrics of the run are written to as JSON.
+     *
+     * @param metricsJSONFilePath the metrics JSON file path
+     */
+    public void setMetricsJSONFilePath(String metricsJSONFilePath) {
+        this.metricsJSONFilePath = metricsJSONFilePath;
+    }
+
+    /**
+     * Gets the file that the metrics of the run are written to in the Prometheus text format, or null if they are not
+     * written.
+     *
+     * @return the metrics Prometheus file path
+     */
+    public String getMetricsPrometheusFilePath() {
+        return this.metricsPrometheusFilePath;
+    }
+
+    /**
+     * Sets the file that the metrics of the run are written to in the Prometheus text format.
+     *
+     * @param metricsPrometheusFilePath the metrics Prometheus file path
+     */
+    public void setMetricsPrometheusFilePath(String metricsPrometheusFilePath) {
+        this.metricsPrometheusFilePath = metricsPrometheusFilePath;
+    }
+
+    /**
+     * Checks if the user requested an external memory search or not.
+     *
+     * @return if an external memory search was requested
+     */
+    public boolean isExternalMemory() {
+        return this.externalMemoryDirectory != null;
+    }
+
     /**
      * Gets input dot file path.
      *
@@ -111,6 +289,96 @@ public class Arguments {
         this.isVisualiseSearch = isVisualiseSearch;
     }
 
+    /**
+     * Checks if the A star should use partial expansion.
+     *
+     * @return if partial expansion should be used
+     */
+    public boolean isPartialExpansion() {
+        return this.isPartialExpansion;
+    }
+
+    /**
+     * Sets if the A star should use partial expansion.
+     *
+     * @param isPartialExpansion should we use partial expansion
+     */
+    public void setIsPartialExpansion(boolean isPartialExpansion) {
+        this.isPartialExpansion = isPartialExpansion;
+    }
+
+    /**
+     * Checks if the sequential search should be a frontier search.
+     *
+     * @return if frontier search should be used
+     */
+    public boolean isFrontierSearch() {
+        return this.isFrontierSearch;
+    }
+
+    /**
+     * Sets if the sequential search should be a frontier search.
+     *
+     * @param isFrontierSearch should we use frontier search
+     */
+    public void setIsFrontierSearch(boolean isFrontierSearch) {
+        this.isFrontierSearch = isFrontierSearch;
+    }
+
+    /**
+     * Checks if several schedulers should race each other on the cores.
+     *
+     * @return if the portfolio should be used
+     */
+    public boolean isPortfolio() {
+        return this.isPortfolio;
+    }
+
+    /**
+     * Sets if several schedulers should race each other on the cores.
+     *
+     * @param isPortfolio should we use the portfolio
+     */
+    public void setIsPortfolio(boolean isPortfolio) {
+        this.isPortfolio = isPortfolio;
+    }
+
+    /**
+     * Checks if the scheduler should be selected from the features of the graph.
+     *
+     * @return if the scheduler should be selected
+     */
+    public boolean isSchedulerSelection() {
+        return this.isSchedulerSelection;
+    }
+
+    /**
+     * Sets if the scheduler should be selected from the features of the graph.
+     *
+     * @param isSchedulerSelection should we select the scheduler
+     */
+    public void setIsSchedulerSelection(boolean isSchedulerSelection) {
+        this.isSchedulerSelection = isSchedulerSelection;
+    }
+
+    /**
+     * Gets the state space model that the A star searches.
+     *
+     * @return the state space model
+     */
+    public SearchModelType getSearchModelType() {
+        return this.searchModelType;
+    }
+
+    /**
+     * Sets the state space model that the A star searches.
+     *
+     * @param searchModelType the state space model
+     */
+    public void setSearchModelType(SearchModelType searchModelType) {
+        this.searchModelType = searchModelType;
+    }
+
     /**
      * Displays the path to the output DOT file.
      */
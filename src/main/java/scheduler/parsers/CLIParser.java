@@ -1,6 +1,7 @@
 package scheduler.parsers;
 
 import java.io.File;
+import java.time.Duration;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -9,6 +10,8 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import scheduler.enums.SearchModelType;
+
 import static scheduler.constants.Constants.NUMBER_OF_REQUIRED_ARGUMENTS;
 
 /**
@@ -29,6 +32,18 @@ public class CLIParser {
         options.addOption("p", true, "Use N cores for execution in parallel (default is sequential)");
         options.addOption("v", false, "Visualise the search");
         options.addOption("o", true, "Output file (default is INPUT-output.dot)");
+        options.addOption("s", true, "Sweep the comma separated processor counts, e.g., 1,2,4,8 (P is always included)");
+        options.addOption("x", false, "Use partial expansion in the search to open fewer states");
+        options.addOption("a", false, "Search the allocation-ordering state space, which has no duplicate states");
+        options.addOption("f", false, "Search the layers of states one at a time, keeping only two layers in memory");
+        options.addOption("r", false, "Race several schedulers on the cores and keep the first optimal schedule");
+        options.addOption("c", false, "Choose the scheduler, cores and lower bounds from the features of the graph");
+        options.addOption("t", true, "Stop the search after SECONDS and keep the best schedule found so far");
+        options.addOption("e", true, "Keep the sequential search's states in files in DIRECTORY instead of memory");
+        options.addOption("j", true, "Write the metrics of the run as JSON to FILE");
+        options.addOption("m", true, "Write the metrics of the run in the Prometheus text format to FILE");
+        options.addOption("b", true, "Keep only the WIDTH best states of each layer, for graphs too large to search exactly");
+        options.addOption(null, "epsilon", true, "Stop once the schedule is proven at most (1 + EPSILON) times optimal");
 
         return parseOptions(CLIArguments);
     }
@@ -55,6 +70,30 @@ public class CLIParser {
         parseRequiredArguments(arguments, remainingArguments);
         parseOptionalArguments(arguments, commandPrompt);
 
+        if (arguments.isExternalMemory() && (arguments.isPartialExpansion() || arguments.getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING)) {
+            throw new ParseException("The external memory search cannot be combined with -x or -a");
+        }
+
+        if (arguments.isFrontierSearch() && (arguments.isExternalMemory() || arguments.isPartialExpansion() || arguments.getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING)) {
+            throw new ParseException("The frontier search cannot be combined with -e, -x or -a");
+        }
+
+        if (arguments.isPortfolio() && (arguments.isFrontierSearch() || arguments.isExternalMemory() || arguments.isPartialExpansion() || arguments.getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING)) {
+            throw new ParseException("The portfolio cannot be combined with -f, -e, -x or -a");
+        }
+
+        if (arguments.isSchedulerSelection() && (arguments.isPortfolio() || arguments.isFrontierSearch() || arguments.isExternalMemory() || arguments.isPartialExpansion() || arguments.getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING)) {
+            throw new ParseException("The scheduler selection cannot be combined with -r, -f, -e, -x or -a");
+        }
+
+        if (arguments.isBeamSearch() && (arguments.isPortfolio() || arguments.isSchedulerSelection() || arguments.isFrontierSearch() || arguments.isExternalMemory() || arguments.isPartialExpansion() || arguments.getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING)) {
+            throw new ParseException("The beam search cannot be combined with -r, -c, -f, -e, -x or -a");
+        }
+
+        if (arguments.isPortfolio() && arguments.getEpsilon() > 0) {
+            throw new ParseException("The portfolio cannot be combined with --epsilon");
+        }
+
         return arguments;
     }
 
@@ -76,8 +115,9 @@ public class CLIParser {
      *
      * @param arguments arguments the arguments passed from the user
      * @param commandPrompt commandPrompt the command prompt instance
+     * @throws ParseException if an optional argument is invalid
      */
-    private static void parseOptionalArguments(Arguments arguments, CommandLine commandPrompt) {
+    private static void parseOptionalArguments(Arguments arguments, CommandLine commandPrompt) throws ParseException {
         if (commandPrompt.hasOption("p")) {
             arguments.setCores(Byte.parseByte(commandPrompt.getOptionValue("p")));
         }
@@ -86,6 +126,54 @@ public class CLIParser {
             arguments.setIsVisualiseSearch(true);
         }
 
+        if (commandPrompt.hasOption("x")) {
+            arguments.setIsPartialExpansion(true);
+        }
+
+        if (commandPrompt.hasOption("a")) {
+            arguments.setSearchModelType(SearchModelType.ALLOCATION_ORDERING);
+        }
+
+        if (commandPrompt.hasOption("f")) {
+            arguments.setIsFrontierSearch(true);
+        }
+
+        if (commandPrompt.hasOption("r")) {
+            arguments.setIsPortfolio(true);
+        }
+
+        if (commandPrompt.hasOption("c")) {
+            arguments.setIsSchedulerSelection(true);
+        }
+
+        if (commandPrompt.hasOption("t")) {
+            arguments.setTimeout(parseTimeout(commandPrompt.getOptionValue("t")));
+        }
+
+        if (commandPrompt.hasOption("e")) {
+            arguments.setExternalMemoryDirectory(commandPrompt.getOptionValue("e"));
+        }
+
+        if (commandPrompt.hasOption("b")) {
+            arguments.setBeamWidth(parseBeamWidth(commandPrompt.getOptionValue("b")));
+        }
+
+        if (commandPrompt.hasOption("epsilon")) {
+            arguments.setEpsilon(parseEpsilon(commandPrompt.getOptionValue("epsilon")));
+        }
+
+        if (commandPrompt.hasOption("j")) {
+            arguments.setMetricsJSONFilePath(commandPrompt.getOptionValue("j"));
+        }
+
+        if (commandPrompt.hasOption("m")) {
+            arguments.setMetricsPrometheusFilePath(commandPrompt.getOptionValue("m"));
+        }
+
+        if (commandPrompt.hasOption("s")) {
+            arguments.setSweepProcessors(parseSweepProcessors(arguments, commandPrompt.getOptionValue("s")));
+        }
+
         if (commandPrompt.hasOption("o")) {
             arguments.setOutputDOTFilePath(commandPrompt.getOptionValue("o"));
         } else {
@@ -93,6 +181,97 @@ public class CLIParser {
         }
     }
 
+    /**
+     * Parses the timeout of the search in seconds.
+     *
+     * @param timeout the timeout from the user
+     * @return the timeout
+     * @throws ParseException if the timeout is not a positive number
+     */
+    private static Duration parseTimeout(String timeout) throws ParseException {
+        float seconds;
+
+        try {
+            seconds = Float.parseFloat(timeout);
+        } catch (NumberFormatException exception) {
+            throw new ParseException("The timeout must be a number of seconds");
+        }
+
+        if (!(seconds > 0)) {
+            throw new ParseException("The timeout must be positive");
+        }
+
+        return Duration.ofNanos((long) (seconds * 1e9));
+    }
+
+    /**
+     * Parses the number of states kept in each layer of the beam search.
+     *
+     * @param beamWidth the beam width from the user
+     * @return the beam width
+     * @throws ParseException if the beam width is not a positive integer
+     */
+    private static int parseBeamWidth(String beamWidth) throws ParseException {
+        int width;
+
+        try {
+            width = Integer.parseInt(beamWidth);
+        } catch (NumberFormatException exception) {
+            throw new ParseException("The beam width must be an integer");
+        }
+
+        if (width < 1) {
+            throw new ParseException("The beam width must be positive");
+        }
+
+        return width;
+    }
+
+    /**
+     * Parses the factor by which the schedule may be longer than an optimal schedule.
+     *
+     * @param epsilon the epsilon from the user
+     * @return the epsilon
+     * @throws ParseException if the epsilon is not a non-negative number
+     */
+    private static double parseEpsilon(String epsilon) throws ParseException {
+        double factor;
+
+        try {
+            factor = Double.parseDouble(epsilon);
+        } catch (NumberFormatException exception) {
+            throw new ParseException("The epsilon must be a number");
+        }
+
+        if (!(factor >= 0) || Double.isInfinite(factor)) {
+            throw new ParseException("The epsilon must be a finite number that is not negative");
+        }
+
+        return factor;
+    }
+
+    /**
+     * Parses the comma separated processor counts of the processor sweep. The required number of processors is always
+     * part of the sweep, as the output file is written for it.
+     *
+     * @param arguments the arguments from the user
+     * @param sweepProcessors the comma separated processor counts
+     * @return the processor counts of the processor sweep
+     */
+    private static byte[] parseSweepProcessors(Arguments arguments, String sweepProcessors) {
+        String[] splits = sweepProcessors.split(",");
+
+        byte[] processorCounts = new byte[splits.length + 1];
+
+        for (int index = 0; index < splits.length; index++) {
+            processorCounts[index] = Byte.parseByte(splits[index].trim());
+        }
+
+        processorCounts[splits.length] = arguments.getProcessors();
+
+        return processorCounts;
+    }
+
     /**
      * Set the default output DOT file path.
      *
@@ -10,6 +10,8 @@ import org.graphstream.graph.implementations.SingleGraph;
 import org.graphstream.stream.file.FileSinkDOT;
 import org.graphstream.stream.file.FileSourceDOT;
 
+import scheduler.events.EventRecorder;
+import scheduler.events.OutputWriteEvent;
 import scheduler.models.EdgeModel;
 import scheduler.models.GraphModel;
 import scheduler.models.NodeModel;
@@ -49,9 +51,20 @@ public class InputOutputParser {
      * @throws IOException the exception from parsing the output graph
      */
     public static void outputDOTFile(GraphModel graph, String filename) throws IOException {
+        OutputWriteEvent event = EventRecorder.isRecording() ? new OutputWriteEvent() : null;
+
+        if (event != null) {
+            event.begin();
+        }
+
         Graph graphStream = convertGraphModelToGraphStream(graph);
 
         writeDOTFile(graphStream, filename);
+
+        if (event != null && event.shouldCommit()) {
+            event.filename = filename;
+            event.commit();
+        }
     }
 
     /**
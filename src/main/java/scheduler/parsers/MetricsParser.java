@@ -0,0 +1,311 @@
+package scheduler.parsers;
+
+import scheduler.models.MetricsModel;
+import scheduler.models.PhaseProfileModel;
+import scheduler.models.RuleMetricsModel;
+import scheduler.models.StateModel;
+import scheduler.schedulers.Scheduler;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This class writes the metrics of a run as machine-readable files, either as a JSON document or in the Prometheus text
+ * format. The files are written once the search has ended, from the metrics it already keeps, so the search itself does
+ * no extra work.
+ */
+public class MetricsParser {
+    private static final double MAXIMUM_EXACT_INTEGER = 0x1p53;
+
+    /**
+     * Output the metrics of a run as a JSON document.
+     *
+     * @param scheduler the scheduler whose search has ended
+     * @param arguments the arguments of the run
+     * @param filename the output filename
+     * @throws IOException if the file cannot be written
+     */
+    public static void outputJSONFile(Scheduler scheduler, Arguments arguments, String filename) throws IOException {
+        MetricsModel metrics = scheduler.getMetrics();
+
+        StringBuilder json = new StringBuilder();
+
+        json.append("{\n");
+        json.append("  \"graph\": ").append(getJSONString(getGraphName(arguments))).append(",\n");
+        json.append("  \"scheduler\": ").append(getJSONString(scheduler.getClass().getSimpleName())).append(",\n");
+        json.append("  \"processors\": ").append(arguments.getProcessors()).append(",\n");
+        json.append("  \"cores\": ").append(arguments.getCores()).append(",\n");
+        json.append("  \"wallTimeSeconds\": ").append(getNumber(metrics.getElapsedTime())).append(",\n");
+        json.append("  \"cpuTimeSeconds\": ").append(getNumber(metrics.getCpuTime())).append(",\n");
+        json.append("  \"peakHeapBytes\": ").append(metrics.getPeakHeapUsage()).append(",\n");
+        json.append("  \"openedStates\": ").append(metrics.getNumberOfOpenedStates()).append(",\n");
+        json.append("  \"closedStates\": ").append(metrics.getNumberOfClosedStates()).append(",\n");
+        json.append("  \"openedStatesPerSecond\": ").append(getNumber(metrics.getOpenedStatesPerSecond())).append(",\n");
+        json.append("  \"finishTime\": ").append(getFinishTime(metrics)).append(",\n");
+        json.append("  \"lowerBound\": ").append(metrics.getLowerBound()).append(",\n");
+        json.append("  \"optimalityGap\": ").append(getNumber(metrics.getOptimalityGap())).append(",\n");
+        json.append("  \"cancelled\": ").append(metrics.isCancelled()).append(",\n");
+        json.append("  \"rules\": [");
+
+        for (int index = 0; index < metrics.getRuleMetrics().size(); index++) {
+            RuleMetricsModel ruleMetrics = metrics.getRuleMetrics().get(index);
+
+            json.append(index == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": ").append(getJSONString(ruleMetrics.getName()));
+            json.append(", \"calls\": ").append(ruleMetrics.getNumberOfCalls());
+            json.append(", \"hits\": ").append(ruleMetrics.getNumberOfHits());
+            json.append(", \"timeSeconds\": ").append(getNumber(ruleMetrics.getElapsedNanoTime() / 1e9)).append("}");
+        }
+
+        json.append(metrics.getRuleMetrics().isEmpty() ? "],\n" : "\n  ],\n");
+        json.append("  \"phases\": [");
+
+        for (int index = 0; index < metrics.getPhaseProfiles().size(); index++) {
+            PhaseProfileModel phaseProfile = metrics.getPhaseProfiles().get(index);
+
+            json.append(index == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": ").append(getJSONString(phaseProfile.getName()));
+            json.append(", \"wallTimeSeconds\": ").append(getNumber(phaseProfile.getWallTime() / 1e9));
+            json.append(", \"cpuTimeSeconds\": ").append(getNumber(phaseProfile.getProcessCpuTime() / 1e9));
+            json.append(", \"threadCpuTimeSeconds\": ").append(getNumber(phaseProfile.getThreadCpuTime() / 1e9));
+            json.append(", \"allocatedBytes\": ").append(phaseProfile.getAllocatedBytes());
+            json.append(", \"peakHeapBytes\": ").append(phaseProfile.getPeakHeapUsage());
+            json.append(", \"garbageCollections\": ").append(phaseProfile.getGarbageCollectionCount());
+            json.append(", \"garbageCollectionSeconds\": ").append(getNumber(phaseProfile.getGarbageCollectionTime() / 1e3));
+            json.append(", \"allocatedBytesPerThread\": {");
+
+            String separator = "";
+
+            for (Map.Entry<String, Long> entry : phaseProfile.getAllocatedBytesPerThread().entrySet()) {
+                json.append(separator).append(getJSONString(entry.getKey())).append(": ").append(entry.getValue());
+
+                separator = ", ";
+            }
+
+            json.append("}}");
+        }
+
+        json.append(metrics.getPhaseProfiles().isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+
+        writeFile(json, filename);
+    }
+
+    /**
+     * Output the metrics of a run in the Prometheus text format, as gauges labelled with the graph, the scheduler,
+     * the number of processors and the number of cores. The metrics of each pruning rule and lower bound are also
+     * labelled with the name of the rule.
+     *
+     * @param scheduler the scheduler whose search has ended
+     * @param arguments the arguments of the run
+     * @param filename the output filename
+     * @throws IOException if the file cannot be written
+     */
+    public static void outputPrometheusFile(Scheduler scheduler, Arguments arguments, String filename) throws IOException {
+        MetricsModel metrics = scheduler.getMetrics();
+
+        String labels = String.format("graph=%s,scheduler=%s,processors=\"%d\",cores=\"%d\"",
+                getLabelValue(getGraphName(arguments)), getLabelValue(scheduler.getClass().getSimpleName()),
+                arguments.getProcessors(), arguments.getCores());
+
+        StringBuilder text = new StringBuilder();
+
+        addGauge(text, "scheduler_wall_time_seconds", "Wall time of the search", labels, metrics.getElapsedTime());
+        addGauge(text, "scheduler_cpu_time_seconds", "CPU time of the process during the search", labels, metrics.getCpuTime());
+        addGauge(text, "scheduler_peak_heap_bytes", "Peak heap usage during the search", labels, metrics.getPeakHeapUsage());
+        addGauge(text, "scheduler_opened_states", "Number of opened states", labels, metrics.getNumberOfOpenedStates());
+        addGauge(text, "scheduler_closed_states", "Number of closed states", labels, metrics.getNumberOfClosedStates());
+        addGauge(text, "scheduler_opened_states_per_second", "Number of states opened per second", labels, metrics.getOpenedStatesPerSecond());
+        addGauge(text, "scheduler_finish_time", "Finish time of the best schedule", labels, getFinishTime(metrics));
+        addGauge(text, "scheduler_lower_bound", "Proven lower bound on the optimal finish time", labels, metrics.getLowerBound());
+        addGauge(text, "scheduler_optimality_gap", "Optimality gap of the best schedule", labels, metrics.getOptimalityGap());
+        addGauge(text, "scheduler_cancelled", "1 if the search was cancelled before it finished", labels, metrics.isCancelled() ? 1 : 0);
+
+        addRuleGauges(text, "scheduler_rule_calls", "Number of evaluations of the rule", labels, metrics, RuleMetricsModel::getNumberOfCalls);
+        addRuleGauges(text, "scheduler_rule_hits", "Number of states pruned by the rule, or raised by the lower bound", labels, metrics, RuleMetricsModel::getNumberOfHits);
+        addRuleGauges(text, "scheduler_rule_time_seconds", "Time spent evaluating the rule", labels, metrics, ruleMetrics -> ruleMetrics.getElapsedNanoTime() / 1e9);
+
+        addPhaseGauges(text, "scheduler_phase_wall_time_seconds", "Wall time of the phase", labels, metrics, phaseProfile -> phaseProfile.getWallTime() / 1e9);
+        addPhaseGauges(text, "scheduler_phase_cpu_time_seconds", "CPU time of the process during the phase", labels, metrics, phaseProfile -> phaseProfile.getProcessCpuTime() / 1e9);
+        addPhaseGauges(text, "scheduler_phase_thread_cpu_time_seconds", "CPU time of the application threads during the phase", labels, metrics, phaseProfile -> phaseProfile.getThreadCpuTime() / 1e9);
+        addPhaseGauges(text, "scheduler_phase_allocated_bytes", "Bytes allocated by the application threads during the phase", labels, metrics, PhaseProfileModel::getAllocatedBytes);
+        addPhaseGauges(text, "scheduler_phase_peak_heap_bytes", "Peak heap usage during the phase", labels, metrics, PhaseProfileModel::getPeakHeapUsage);
+        addPhaseGauges(text, "scheduler_phase_garbage_collections", "Number of garbage collections during the phase", labels, metrics, PhaseProfileModel::getGarbageCollectionCount);
+        addPhaseGauges(text, "scheduler_phase_garbage_collection_seconds", "Time spent in garbage collections during the phase", labels, metrics, phaseProfile -> phaseProfile.getGarbageCollectionTime() / 1e3);
+
+        writeFile(text, filename);
+    }
+
+    /**
+     * Adds a gauge with a single sample in the Prometheus text format.
+     *
+     * @param text the text to add to
+     * @param name the name of the gauge
+     * @param help the description of the gauge
+     * @param labels the labels of the sample
+     * @param value the value of the sample
+     */
+    private static void addGauge(StringBuilder text, String name, String help, String labels, double value) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" gauge\n");
+        text.append(name).append('{').append(labels).append("} ").append(getNumber(value)).append('\n');
+    }
+
+    /**
+     * Adds a gauge with one sample per pruning rule and lower bound in the Prometheus text format.
+     *
+     * @param text the text to add to
+     * @param name the name of the gauge
+     * @param help the description of the gauge
+     * @param labels the labels shared by every sample
+     * @param metrics the metrics of the run
+     * @param value the value of the sample of a rule
+     */
+    private static void addRuleGauges(StringBuilder text, String name, String help, String labels, MetricsModel metrics,
+                                      ToDoubleFunction<RuleMetricsModel> value) {
+        if (metrics.getRuleMetrics().isEmpty()) {
+            return;
+        }
+
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" gauge\n");
+
+        for (RuleMetricsModel ruleMetrics : metrics.getRuleMetrics()) {
+            text.append(name).append('{').append(labels).append(",rule=").append(getLabelValue(ruleMetrics.getName()))
+                    .append("} ").append(getNumber(value.applyAsDouble(ruleMetrics))).append('\n');
+        }
+    }
+
+    /**
+     * Adds a gauge with one sample per profiled phase of the run in the Prometheus text format.
+     *
+     * @param text the text to add to
+     * @param name the name of the gauge
+     * @param help the description of the gauge
+     * @param labels the labels shared by every sample
+     * @param metrics the metrics of the run
+     * @param value the value of the sample of a phase
+     */
+    private static void addPhaseGauges(StringBuilder text, String name, String help, String labels, MetricsModel metrics,
+                                       ToDoubleFunction<PhaseProfileModel> value) {
+        if (metrics.getPhaseProfiles().isEmpty()) {
+            return;
+        }
+
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" gauge\n");
+
+        for (PhaseProfileModel phaseProfile : metrics.getPhaseProfiles()) {
+            text.append(name).append('{').append(labels).append(",phase=").append(getLabelValue(phaseProfile.getName()))
+                    .append("} ").append(getNumber(value.applyAsDouble(phaseProfile))).append('\n');
+        }
+    }
+
+    /**
+     * Returns the name of the input file of the run, without its directory.
+     *
+     * @param arguments the arguments of the run
+     * @return the name of the graph
+     */
+    private static String getGraphName(Arguments arguments) {
+        return Path.of(arguments.getInputDOTFilePath()).getFileName().toString();
+    }
+
+    /**
+     * Returns the finish time of the best schedule, or 0 if there is none.
+     *
+     * @param metrics the metrics of the run
+     * @return the finish time
+     */
+    private static int getFinishTime(MetricsModel metrics) {
+        StateModel bestState = metrics.getBestState();
+
+        return (bestState == null) ? 0 : bestState.getMaximumFinishTime();
+    }
+
+    /**
+     * Returns a number as text, without an exponent or trailing zeros. Whole numbers, such as the numbers of states and
+     * of bytes, are written exactly, and other numbers are rounded to six significant digits. Both JSON and the
+     * Prometheus text format accept this form.
+     *
+     * @param value the number
+     * @return the number as text
+     */
+    private static String getNumber(double value) {
+        if (!Double.isFinite(value)) {
+            return "0";
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) <= MAXIMUM_EXACT_INTEGER) {
+            return Long.toString((long) value);
+        }
+
+        return new BigDecimal(value).round(new MathContext(6)).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Returns a string as a quoted JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param value the string
+     * @return the quoted string
+     */
+    private static String getJSONString(String value) {
+        StringBuilder string = new StringBuilder("\"");
+
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                string.append('\\').append(character);
+            } else if (character == '\n') {
+                string.append("\\n");
+            } else if (character < 0x20) {
+                string.append(String.format("\\u%04x", (int) character));
+            } else {
+                string.append(character);
+            }
+        }
+
+        return string.append('"').toString();
+    }
+
+    /**
+     * Returns a string as a quoted label value of the Prometheus text format. The format only has escapes for
+     * backslashes, quotes and line feeds, and takes every other character as it is.
+     *
+     * @param value the string
+     * @return the quoted label value
+     */
+    private static String getLabelValue(String value) {
+        StringBuilder string = new StringBuilder("\"");
+
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                string.append('\\').append(character);
+            } else if (character == '\n') {
+                string.append("\\n");
+            } else {
+                string.append(character);
+            }
+        }
+
+        return string.append('"').toString();
+    }
+
+    /**
+     * Writes text to a file.
+     *
+     * @param text the text
+     * @param filename the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeFile(CharSequence text, String filename) throws IOException {
+        try (Writer writer = new FileWriter(filename)) {
+            writer.append(text);
+        }
+    }
+}
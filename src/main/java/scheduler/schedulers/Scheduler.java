@@ -2,18 +2,34 @@ package scheduler.schedulers;
 
 import java.io.IOException;
 import java.util.*;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import scheduler.events.EventRecorder;
+import scheduler.events.ExpansionRateEvent;
+import scheduler.events.IncumbentImprovedEvent;
+import scheduler.events.PrecomputationEvent;
+import scheduler.events.SearchEvent;
+import scheduler.events.UpperBoundEvent;
 import scheduler.models.*;
 import scheduler.parsers.Arguments;
 import scheduler.parsers.InputOutputParser;
+import scheduler.schedulers.listeners.SchedulerListener;
+import scheduler.utilities.Utility;
 
 import static scheduler.constants.Constants.INFINITY_32;
+import static scheduler.constants.Constants.PROGRESS_INTERVAL;
 
 /**
  * This abstract class is used for scheduling algorithms. There are subclasses such as DFSScheduler and
  * SequentialScheduler implement specific algorithms.
  */
 public abstract class Scheduler {
+    private static final AtomicReferenceFieldUpdater<Scheduler, StateModel> BEST_STATE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Scheduler.class, StateModel.class, "bestState");
+
     protected GraphModel graph;
 
     protected MetricsModel metrics;
@@ -25,156 +41,105 @@ public abstract class Scheduler {
 
     protected Set<StateModel> closedStates;
 
-    protected byte processors;
-    protected byte numberOfNodes;
+    protected CancellationTokenModel cancellationToken;
 
-    protected int criticalPathLength;
+    private final List<SchedulerListener> listeners;
 
-    protected int[] bottomLevelPathLengths;
+    private volatile boolean isObserved;
 
-    /**
-     * Constructor for the Scheduler class. Initialises the graph, number of processors, number of
-     * nodes, computes topological sorting and bottom level path lengths.
-     *
-     * @param graph represents the graph model.
-     * @param processors represents the number of processors for scheduling.
-     */
-    protected Scheduler(GraphModel graph, byte processors) {
-        this.graph = graph;
+    protected boolean isRuleTiming;
 
-        this.processors = processors;
-        this.numberOfNodes = (byte) graph.getNumberOfNodes();
+    private final AtomicLong nextProgressNanoTime;
 
-        this.criticalPathLength = 0;
+    private final AtomicInteger provenLowerBound;
 
-        this.metrics = new MetricsModel();
+    private volatile ProgressModel progress;
 
-        this.nodes = getSortedNodes(graph.getNodes());
+    private SearchEvent searchEvent;
 
-        this.closedStates = new HashSet<>();
-
-        setNodeByteIds();
+    protected byte processors;
+    protected short numberOfNodes;
 
-        this.bottomLevelPathLengths = getBottomLevelPathLengths();
-    }
+    protected int criticalPathLength;
 
-    /**
-     * Starts the actual scheduling process.
-     */
-    public abstract void schedule();
+    protected int[] bottomLevelPathLengths;
 
-    /**
-     * Method assigns byte id to each node.
-     */
-    protected void setNodeByteIds() {
-        for (int i = 0; i < this.nodes.length; i++) {
-            this.nodes[i].setByteId((byte) i);
-        }
-    }
+    protected CompiledGraphModel compiledGraph;
 
     /**
-     * Method returns the edge between a source node and destination node.
+     * Constructor for the Scheduler class. Initialises the graph, number of processors, number of
+     * nodes, and takes the topological sorting and bottom level path lengths from the graph's analysis, which is
+     * shared by every scheduler of the same graph.
      *
-     * @param source represents the source node of the edge.
-     * @param destination represents the destination node of the edge.
-     * @return the edge between the source and destination nodes.
+     * @param graph represents the graph model.
+     * @param processors represents the number of processors for scheduling.
      */
-    protected EdgeModel getEdge(NodeModel source, NodeModel destination) {
-        String edgeId = source.getId().concat(destination.getId());
+    protected Scheduler(GraphModel graph, byte processors) {
+        PrecomputationEvent precomputationEvent = EventRecorder.isRecording() ? new PrecomputationEvent() : null;
 
-        return this.graph.getEdge(edgeId);
-    }
+        if (precomputationEvent != null) {
+            precomputationEvent.begin();
+        }
 
-    /**
-     * Method returns the sorted order of tasks. Uses topological sorting of the nodes in the graph.
-     *
-     * @param nodes represents the graph's nodes in a map.
-     * @return an array of sorted nodes.
-     */
-    protected NodeModel[] getSortedNodes(Map<String, NodeModel> nodes) {
-        int numberOfNodes = nodes.size();
+        this.graph = graph;
 
-        int nodeIndex = 0;
-        int sortedIndex = 0;
+        this.compiledGraph = graph.getCompiledGraph();
 
-        int[] inDegrees = new int[numberOfNodes];
-        NodeModel[] sortedNodes = new NodeModel[numberOfNodes];
+        this.processors = processors;
+        this.numberOfNodes = (short) this.compiledGraph.getNumberOfNodes();
 
-        Deque<NodeModel> deque = new ArrayDeque<>();
-        Map<NodeModel, Integer> nodeMap = new HashMap<>();
+        this.criticalPathLength = this.compiledGraph.getCriticalPathLength();
 
-        for (NodeModel node : nodes.values()) {
-            nodeMap.put(node, nodeIndex);
-            inDegrees[nodeIndex] = node.getInDegree();
+        this.metrics = new MetricsModel();
 
-            if (inDegrees[nodeIndex] == 0) {
-                deque.add(node);
-            }
+        this.cancellationToken = new CancellationTokenModel();
 
-            ++nodeIndex;
-        }
+        this.listeners = new CopyOnWriteArrayList<>();
 
-        while (!deque.isEmpty()) {
-            int dequeSize = deque.size();
+        this.nextProgressNanoTime = new AtomicLong();
 
-            for (int i = 0; i < dequeSize; i++) {
-                NodeModel node = deque.poll();
+        this.provenLowerBound = new AtomicInteger();
 
-                if (node == null) {
-                    continue;
-                }
+        this.nodes = this.compiledGraph.getNodes();
 
-                sortedNodes[sortedIndex++] = node;
+        this.closedStates = new HashSet<>();
 
-                for (NodeModel successor : node.getSuccessors()) {
-                    int index = nodeMap.get(successor);
-                    --inDegrees[index];
+        this.bottomLevelPathLengths = this.compiledGraph.getBottomLevelPathLengths();
 
-                    if (inDegrees[index] == 0) {
-                        deque.add(successor);
-                    }
-                }
-            }
+        if (precomputationEvent != null && precomputationEvent.shouldCommit()) {
+            precomputationEvent.numberOfNodes = this.numberOfNodes;
+            precomputationEvent.processors = this.processors;
+            precomputationEvent.commit();
         }
-
-        return sortedNodes;
     }
 
     /**
-     * Method calculates the bottom level path lengths for each node. Start from the bottom and compute
-     * way up. Bottom level path is the longest path from each node to the end of the graph.
+     * Constructor for the Scheduler class that applies a graph delta to a copy of the graph of a previous scheduler.
+     * The copy's analysis keeps the previous topological ordering if it is still valid, and only recomputes the bottom
+     * level path lengths of the changed nodes and their ancestors. The previous scheduler and its graph are not
+     * changed.
      *
-     * @return integer array of bottom level path lengths for each node.
+     * @param scheduler represents the previous scheduler whose graph analysis is reused.
+     * @param delta represents the changes to the graph.
      */
-    protected int[] getBottomLevelPathLengths() {
-        int[] bottomLevelPathLengths = new int[this.numberOfNodes];
-
-        for (NodeModel node : this.nodes) {
-            bottomLevelPathLengths[node.getByteId()] = (node.getOutDegree() == 0) ? node.getWeight() : -INFINITY_32;
-        }
-
-        for (int i = this.numberOfNodes - 1; i >= 0; i--) {
-            NodeModel node = this.nodes[i];
-
-            for (NodeModel predecessor : node.getPredecessors()) {
-                setRelaxation(bottomLevelPathLengths, node, predecessor);
-            }
-        }
-
-        findCriticalPathLength(bottomLevelPathLengths);
-
-        return bottomLevelPathLengths;
+    protected Scheduler(Scheduler scheduler, GraphDeltaModel delta) {
+        this(new GraphModel(scheduler.graph, delta), scheduler.processors);
     }
 
     /**
-     * Finds the critical path length. The critical path length is the maximum bottom level path length.
+     * Starts the actual scheduling process.
+     */
+    public abstract void schedule();
+
+    /**
+     * Method returns the weight of the edge between a source node and destination node.
      *
-     * @param bottomLevelPathLengths the bottom level path lengths
+     * @param source represents the source node of the edge.
+     * @param destination represents the destination node of the edge.
+     * @return the weight of the edge between the source and destination nodes.
      */
-    private void findCriticalPathLength(int[] bottomLevelPathLengths) {
-        for (int bottomLevelPathLength : bottomLevelPathLengths) {
-            this.criticalPathLength = Math.max(this.criticalPathLength, bottomLevelPathLength);
-        }
+    protected int getEdgeWeight(NodeModel source, NodeModel destination) {
+        return this.compiledGraph.getEdgeWeight(source.getIndex(), destination.getIndex());
     }
 
     /**
@@ -186,24 +151,6 @@ public abstract class Scheduler {
         return this.criticalPathLength;
     }
 
-    /**
-     * Method updates distance array by relaxing edge between the source and destination nodes.
-     *
-     * @param distances represents the distances in an integer array.
-     * @param source represents the source node.
-     * @param destination represents the destination node.
-     */
-    private void setRelaxation(int[] distances, NodeModel source, NodeModel destination) {
-        byte sourceId = source.getByteId();
-        byte destinationId = destination.getByteId();
-
-        int cost = distances[sourceId] + destination.getWeight();
-
-        if (distances[destinationId] < cost) {
-            distances[destinationId] = cost;
-        }
-    }
-
     /**
      * Method calculates the earliest start time for a node on a given processor.
      *
@@ -217,16 +164,17 @@ public abstract class Scheduler {
             return 0;
         }
 
+        short nodeId = node.getIndex();
+
         int earliestStartTime = state.getFinishTime(processor);
 
-        for (NodeModel predecessor : node.getPredecessors()) {
-            int finishTime = state.getNodeStartTime(predecessor) + predecessor.getWeight();
+        for (short predecessorId : this.compiledGraph.getPredecessorIds(nodeId)) {
+            int finishTime = state.getNodeStartTime(predecessorId) + this.compiledGraph.getWeight(predecessorId);
 
-            if (state.getNodeProcessor(predecessor) == processor) {
+            if (state.getNodeProcessor(predecessorId) == processor) {
                 earliestStartTime = Math.max(earliestStartTime, finishTime);
             } else {
-                EdgeModel edge = getEdge(predecessor, node);
-                earliestStartTime = Math.max(earliestStartTime, finishTime + edge.weight());
+                earliestStartTime = Math.max(earliestStartTime, finishTime + this.compiledGraph.getEdgeWeight(predecessorId, nodeId));
             }
         }
 
@@ -235,28 +183,27 @@ public abstract class Scheduler {
 
     /**
       * Method calculates the earliest start time for a node on a given processor. This is used for schedule
-      * equivalence pruning.
+      * equivalence pruning, where only the nodes on the given processor are re-timed.
       *
       * @param state represents the current state of the schedule
       * @param nodeId represents the node to schedule
-      * @param nodeStartTimes the array of node/task start times
+      * @param nodeStartTimes the array of node/task start times, only read for the nodes on the given processor
       * @param processor represents the processor to schedule the node on
       * @param startTime the node's start time
       * @return the earliest start time for a node on a given processor
       */
-    protected int getEarliestStartTime(StateModel state, byte nodeId, int[] nodeStartTimes, byte processor, int startTime) {
-        NodeModel node = this.nodes[nodeId];
-
+    protected int getEarliestStartTime(StateModel state, short nodeId, int[] nodeStartTimes, byte processor, int startTime) {
         int earliestStartTime = startTime;
 
-        for (NodeModel predecessor : node.getPredecessors()) {
-            int finishTime = nodeStartTimes[predecessor.getByteId()] + predecessor.getWeight();
+        for (short predecessorId : this.compiledGraph.getPredecessorIds(nodeId)) {
+            if (state.getNodeProcessor(predecessorId) == processor) {
+                int finishTime = nodeStartTimes[predecessorId] + this.compiledGraph.getWeight(predecessorId);
 
-            if (state.getNodeProcessor(predecessor) == processor) {
                 earliestStartTime = Math.max(earliestStartTime, finishTime);
             } else {
-                EdgeModel edge = getEdge(predecessor, node);
-                earliestStartTime = Math.max(earliestStartTime, finishTime + edge.weight());
+                int finishTime = state.getNodeStartTime(predecessorId) + this.compiledGraph.getWeight(predecessorId);
+
+                earliestStartTime = Math.max(earliestStartTime, finishTime + this.compiledGraph.getEdgeWeight(predecessorId, nodeId));
             }
         }
 
@@ -290,8 +237,8 @@ public abstract class Scheduler {
      * @return boolean (true) for if all predecessors have been scheduled (otherwise false).
      */
     protected boolean arePredecessorsScheduled(StateModel state, NodeModel node) {
-        for (NodeModel predecessor : node.getPredecessors()) {
-            if (!state.isNodeScheduled(predecessor)) {
+        for (short predecessorId : this.compiledGraph.getPredecessorIds(node.getIndex())) {
+            if (!state.isNodeScheduled(predecessorId)) {
                 return false;
             }
         }
@@ -300,7 +247,318 @@ public abstract class Scheduler {
     }
 
     /**
-     * Returns the current state
+     * Method returns a feasible schedule based on the greedy algorithm in Oliver Sinnen's research paper. Every search
+     * starts from it as its best state.
+     *
+     * @return a feasible schedule.
+     */
+    protected StateModel getValidSchedule() {
+        UpperBoundEvent event = EventRecorder.isRecording() ? new UpperBoundEvent() : null;
+
+        if (event != null) {
+            event.begin();
+        }
+
+        StateModel state = new StateModel(processors, numberOfNodes);
+
+        for (NodeModel node : nodes) {
+            int bestStartTime = INFINITY_32;
+            byte processorWithBestStartTime = (byte) -1;
+
+            for (byte processor = 0; processor < processors; processor++) {
+                int earliestStartTime = getEarliestStartTime(state, node, processor);
+
+                if (earliestStartTime < bestStartTime) {
+                    bestStartTime = earliestStartTime;
+                    processorWithBestStartTime = processor;
+                }
+            }
+
+            state.addNode(node, processorWithBestStartTime, bestStartTime);
+        }
+
+        if (event != null && event.shouldCommit()) {
+            event.finishTime = state.getMaximumFinishTime();
+            event.commit();
+        }
+
+        return state;
+    }
+
+    /**
+     * Method replaces the best state if the given state has a shorter schedule. The best state is compared and set
+     * atomically, so threads can share it without a lock.
+     *
+     * @param state represents the complete state.
+     * @return boolean (true) for if the best state was replaced (otherwise false).
+     */
+    protected boolean offerBestState(StateModel state) {
+        StateModel bestState;
+
+        do {
+            bestState = this.bestState;
+
+            if (bestState != null && state.getMaximumFinishTime() >= bestState.getMaximumFinishTime()) {
+                return false;
+            }
+        } while (!BEST_STATE_UPDATER.compareAndSet(this, bestState, state));
+
+        fireIncumbentImproved(state);
+
+        return true;
+    }
+
+    /**
+     * Method sets if the evaluations of the pruning rules and lower bounds are timed. The calls and hits of the rules
+     * are always counted, but timing every evaluation reads the clock twice, so it is only enabled when the metrics
+     * are written out.
+     *
+     * @param isRuleTiming represents if the rule evaluations are timed.
+     */
+    public void setRuleTiming(boolean isRuleTiming) {
+        this.isRuleTiming = isRuleTiming;
+    }
+
+    /**
+     * Method returns if the evaluations of the pruning rules and lower bounds are timed.
+     *
+     * @return boolean (true) for if the rule evaluations are timed (otherwise false).
+     */
+    public boolean isRuleTiming() {
+        return this.isRuleTiming;
+    }
+
+    /**
+     * Method adds a listener to the search. The search only tracks its current state and samples its progress while a
+     * listener is added, so an unobserved search pays nothing for the events.
+     *
+     * @param listener represents the listener to add.
+     */
+    public void addListener(SchedulerListener listener) {
+        this.listeners.add(listener);
+
+        this.isObserved = true;
+    }
+
+    /**
+     * Method removes a listener from the search.
+     *
+     * @param listener represents the listener to remove.
+     */
+    public void removeListener(SchedulerListener listener) {
+        this.listeners.remove(listener);
+
+        this.isObserved = !this.listeners.isEmpty();
+    }
+
+    /**
+     * Method tells the listeners that the search found a shorter complete schedule.
+     *
+     * @param state represents the new best state.
+     */
+    protected void fireIncumbentImproved(StateModel state) {
+        if (EventRecorder.isRecording()) {
+            IncumbentImprovedEvent event = new IncumbentImprovedEvent();
+
+            if (event.shouldCommit()) {
+                event.scheduler = getClass().getSimpleName();
+                event.finishTime = state.getMaximumFinishTime();
+                event.numberOfOpenedStates = this.metrics.getNumberOfOpenedStates();
+                event.commit();
+            }
+        }
+
+        if (!this.isObserved) {
+            return;
+        }
+
+        for (SchedulerListener listener : this.listeners) {
+            listener.onIncumbentImproved(state);
+        }
+    }
+
+    /**
+     * Method raises the proven lower bound of the search, and tells the listeners if it is higher than every lower
+     * bound the search proved before. The bound is only read when it is not raised, which is the common case. The
+     * bound is never raised above the best state, as an optimal schedule is never longer than the best state, even if
+     * the best state was lowered while the search still held states that it had opened before.
+     *
+     * @param lowerBound represents the proven lower bound.
+     */
+    protected void raiseLowerBound(int lowerBound) {
+        StateModel bestState = this.bestState;
+
+        if (bestState != null) {
+            lowerBound = Math.min(lowerBound, bestState.getMaximumFinishTime());
+        }
+
+        if (lowerBound <= this.provenLowerBound.get() || this.provenLowerBound.getAndAccumulate(lowerBound, Math::max) >= lowerBound || !this.isObserved) {
+            return;
+        }
+
+        for (SchedulerListener listener : this.listeners) {
+            listener.onLowerBoundRaised(lowerBound);
+        }
+    }
+
+    /**
+     * Method records the start of the search for the flight recorder, which samples its expansion rate until the
+     * search ends.
+     */
+    protected void startSearch() {
+        if (EventRecorder.isRecording()) {
+            this.searchEvent = new SearchEvent();
+            this.searchEvent.begin();
+
+            ExpansionRateEvent.register(this);
+        }
+    }
+
+    /**
+     * Method records the end of the search, once its best state is in the metrics. A search that was not cancelled has
+     * proven the lower bound that it certifies for its best state.
+     */
+    protected void finishSearch() {
+        StateModel bestState = this.metrics.getBestState();
+
+        if (!this.metrics.isCancelled() && bestState != null) {
+            raiseLowerBound(getCertifiedLowerBound(bestState));
+        }
+
+        this.metrics.setLowerBound(getProvenLowerBound());
+
+        if (this.searchEvent == null) {
+            return;
+        }
+
+        ExpansionRateEvent.unregister(this);
+
+        if (this.searchEvent.shouldCommit()) {
+            this.searchEvent.scheduler = getClass().getSimpleName();
+            this.searchEvent.numberOfNodes = this.numberOfNodes;
+            this.searchEvent.processors = this.processors;
+            this.searchEvent.numberOfOpenedStates = this.metrics.getNumberOfOpenedStates();
+            this.searchEvent.numberOfClosedStates = this.metrics.getNumberOfClosedStates();
+            this.searchEvent.finishTime = (bestState == null) ? 0 : bestState.getMaximumFinishTime();
+            this.searchEvent.lowerBound = this.metrics.getLowerBound();
+            this.searchEvent.isCancelled = this.metrics.isCancelled();
+            this.searchEvent.commit();
+        }
+    }
+
+    /**
+     * Method returns the lower bound that a finished search has proven for its best state. An exhaustive search has
+     * proven its best state optimal, so the lower bound is the finish time of its best state.
+     *
+     * @param bestState represents the best state of the finished search.
+     * @return the certified lower bound.
+     */
+    protected int getCertifiedLowerBound(StateModel bestState) {
+        return bestState.getMaximumFinishTime();
+    }
+
+    /**
+     * Method returns the highest lower bound on the finish time of an optimal schedule that the search has proven so
+     * far. It is safe to call while the search is running.
+     *
+     * @return the proven lower bound.
+     */
+    public int getProvenLowerBound() {
+        return this.provenLowerBound.get();
+    }
+
+    /**
+     * Method returns the finish time of the best state found so far, which is an upper bound on the finish time of an
+     * optimal schedule. It is safe to call while the search is running.
+     *
+     * @return the upper bound, or 0 if no complete state was found yet.
+     */
+    public int getUpperBound() {
+        StateModel bestState = this.bestState;
+
+        return (bestState == null) ? 0 : bestState.getMaximumFinishTime();
+    }
+
+    /**
+     * Method returns the optimality gap between the best state found so far and the proven lower bound. It is safe to
+     * call while the search is running, so the search can be stopped once the gap is small enough.
+     *
+     * @return the optimality gap.
+     */
+    public double getOptimalityGap() {
+        return Utility.getOptimalityGap(getProvenLowerBound(), getUpperBound());
+    }
+
+    /**
+     * Method sends a snapshot of the search to the listeners, unless a snapshot was sent within the progress interval.
+     * Only the thread that claims the next snapshot time sends it.
+     *
+     * @param state represents the state being expanded.
+     */
+    private void sampleProgress(StateModel state) {
+        long nanoTime = System.nanoTime();
+        long nextNanoTime = this.nextProgressNanoTime.get();
+
+        if ((nextNanoTime != 0 && nanoTime - nextNanoTime < 0) || !this.nextProgressNanoTime.compareAndSet(nextNanoTime, nanoTime + PROGRESS_INTERVAL * 1_000_000L)) {
+            return;
+        }
+
+        ProgressModel progress = new ProgressModel(this.progress, nanoTime, this.metrics.getNumberOfOpenedStates(),
+                this.provenLowerBound.get(), state, this.bestState);
+
+        this.progress = progress;
+
+        for (SchedulerListener listener : this.listeners) {
+            listener.onProgress(progress);
+        }
+    }
+
+    /**
+     * Method cancels the search. The search stops at its next expansion, and keeps the best state found so far.
+     */
+    public void cancel() {
+        this.cancellationToken.cancel();
+    }
+
+    /**
+     * Method checks if the search was cancelled or its deadline has passed. It is cheap enough to be checked before
+     * every expansion.
+     *
+     * @return boolean (true) for if the search should stop (otherwise false).
+     */
+    public boolean isCancelled() {
+        return this.cancellationToken.isCancelled();
+    }
+
+    /**
+     * Returns the cancellation token of the search
+     *
+     * @return the cancellation token
+     */
+    public CancellationTokenModel getCancellationToken() {
+        return this.cancellationToken;
+    }
+
+    /**
+     * Sets the cancellation token of the search, so several searches can be cancelled together
+     *
+     * @param cancellationToken the cancellation token
+     */
+    public void setCancellationToken(CancellationTokenModel cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Returns the best state found so far
+     *
+     * @return the best state found so far
+     */
+    public StateModel getBestState() {
+        return this.bestState;
+    }
+
+    /**
+     * Returns the current state, which is only tracked while a listener is added
      *
      * @return the current state
      */
@@ -309,12 +567,17 @@ public abstract class Scheduler {
     }
 
     /**
-     * Sets the current state
+     * Sets the current state, and samples the progress of the search, while a listener is added. Every scheduler calls
+     * this for each state it expands, so an unobserved search only reads a flag that never changes.
      *
      * @param state the state to be set
      */
     protected void setCurrentState(StateModel state) {
-        this.currentState = state;
+        if (this.isObserved) {
+            this.currentState = state;
+
+            sampleProgress(state);
+        }
     }
 
     /**
@@ -326,6 +589,15 @@ public abstract class Scheduler {
         return this.metrics;
     }
 
+    /**
+     * Returns the graph that is scheduled
+     *
+     * @return the graph
+     */
+    public GraphModel getGraph() {
+        return this.graph;
+    }
+
     /**
      * Return an array of nodes
      *
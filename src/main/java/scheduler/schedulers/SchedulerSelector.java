@@ -0,0 +1,119 @@
+package scheduler.schedulers;
+
+import scheduler.enums.LowerBoundType;
+import scheduler.enums.SchedulerType;
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphFeaturesModel;
+import scheduler.models.GraphModel;
+import scheduler.schedulers.parallel.ParallelSchedulerDepthFirst;
+import scheduler.schedulers.parallel.ParallelSchedulerForkJoin;
+import scheduler.schedulers.sequential.AStarScheduler;
+
+import static scheduler.constants.Constants.*;
+
+/**
+ * This class selects the scheduler, the number of cores and the lower bounds that are expected to search a graph the
+ * fastest, from the features of the graph. The rules were calibrated by running the schedulers over the crawled
+ * graphs with 10 and 16 nodes.
+ * <ul>
+ *     <li>Shallow graphs, such as forks, joins and independent nodes, are searched the fastest by the A star with the
+ *     processor free time bound. Their searches are short, so they only use one core.</li>
+ *     <li>Narrow graphs with a high communication to computation ratio are searched the fastest in the
+ *     allocation-ordering state space, whose f-cost includes the communication of the allocation. Wide graphs have
+ *     too many allocations of their independent nodes.</li>
+ *     <li>Every other graph is searched the fastest by the depth-first branch and bound on every core.</li>
+ * </ul>
+ */
+public class SchedulerSelector {
+    private final GraphFeaturesModel features;
+
+    private final SchedulerType schedulerType;
+
+    private final byte cores;
+
+    /**
+     * Constructor for the SchedulerSelector class. Selects the scheduler for a graph.
+     *
+     * @param graph represents the graph model.
+     * @param cores represents the number of cores that may be used.
+     */
+    public SchedulerSelector(GraphModel graph, byte cores) {
+        this.features = new GraphFeaturesModel(graph.getCompiledGraph());
+
+        if (this.features.getDepth() <= SELECTOR_MAXIMUM_SHALLOW_DEPTH) {
+            this.schedulerType = SchedulerType.A_STAR;
+            this.cores = 1;
+        } else if (this.features.getCommunicationToComputationRatio() >= SELECTOR_MINIMUM_CCR
+                && this.features.getWidth() <= SELECTOR_MAXIMUM_WIDTH_RATIO * this.features.getNumberOfNodes()) {
+            this.schedulerType = SchedulerType.ALLOCATION_ORDERING_A_STAR;
+            this.cores = cores;
+        } else {
+            this.schedulerType = SchedulerType.DEPTH_FIRST_BRANCH_AND_BOUND;
+            this.cores = cores;
+        }
+    }
+
+    /**
+     * Method creates the selected scheduler for the graph.
+     *
+     * @param graph represents the graph model.
+     * @param processors represents the number of processors for scheduling.
+     * @return the selected scheduler.
+     */
+    public AStarScheduler getScheduler(GraphModel graph, byte processors) {
+        AStarScheduler scheduler;
+
+        if (this.schedulerType == SchedulerType.DEPTH_FIRST_BRANCH_AND_BOUND) {
+            scheduler = new ParallelSchedulerDepthFirst(graph, processors, this.cores);
+        } else if (this.cores > 1) {
+            scheduler = new ParallelSchedulerForkJoin(graph, processors, this.cores);
+        } else {
+            scheduler = new AStarScheduler(graph, processors);
+        }
+
+        if (this.schedulerType == SchedulerType.ALLOCATION_ORDERING_A_STAR) {
+            scheduler.setSearchModelType(SearchModelType.ALLOCATION_ORDERING);
+        }
+
+        if (this.schedulerType == SchedulerType.A_STAR) {
+            scheduler.setLowerBound(LowerBoundType.PROCESSOR_FREE_TIME, true);
+        }
+
+        return scheduler;
+    }
+
+    /**
+     * Method returns the features of the graph.
+     *
+     * @return the features of the graph.
+     */
+    public GraphFeaturesModel getFeatures() {
+        return this.features;
+    }
+
+    /**
+     * Method returns the selected scheduler type.
+     *
+     * @return the selected scheduler type.
+     */
+    public SchedulerType getSchedulerType() {
+        return this.schedulerType;
+    }
+
+    /**
+     * Method returns the selected number of cores.
+     *
+     * @return the selected number of cores.
+     */
+    public byte getCores() {
+        return this.cores;
+    }
+
+    /**
+     * Method displays the features of the graph and the selected scheduler.
+     */
+    public void display() {
+        System.out.println("Graph features: " + this.features);
+        System.out.println("Selected scheduler: " + this.schedulerType + " on " + this.cores + " core(s)");
+    }
+}
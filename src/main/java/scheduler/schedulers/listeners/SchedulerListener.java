@@ -0,0 +1,34 @@
+package scheduler.schedulers.listeners;
+
+import scheduler.models.ProgressModel;
+import scheduler.models.StateModel;
+
+/**
+ * Observes the progress of a search. The events are called on the threads of the search, so a listener must return
+ * quickly and must be thread safe. Progress snapshots are sampled, at most once per progress interval.
+ */
+public interface SchedulerListener {
+    /**
+     * Called when the search finds a complete schedule that is shorter than its best schedule.
+     *
+     * @param state the new best state
+     */
+    default void onIncumbentImproved(StateModel state) {
+    }
+
+    /**
+     * Called when the search proves a higher lower bound on the finish time of an optimal schedule.
+     *
+     * @param lowerBound the new lower bound
+     */
+    default void onLowerBoundRaised(int lowerBound) {
+    }
+
+    /**
+     * Called with a snapshot of the search, at most once per progress interval.
+     *
+     * @param progress the snapshot of the search
+     */
+    default void onProgress(ProgressModel progress) {
+    }
+}
@@ -0,0 +1,109 @@
+package scheduler.schedulers.parallel;
+
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Parallel scheduler using a beam search. The layers are searched like the breadth-first branch and bound, with every
+ * state of a layer expanded in parallel, but only the states of a layer with the smallest f-costs are kept, up to the
+ * beam width. Each layer holds at most the beam width's states and their children, so the time and memory of the search
+ * grow linearly with the number of nodes and the beam width. The schedule is at most the greedy schedule, but it is
+ * only proven optimal if no layer was ever cut down to the beam width, so it is meant for graphs of hundreds of nodes,
+ * which are too large to search exactly.
+ */
+public class ParallelSchedulerBeam extends ParallelSchedulerBreadthFirst {
+    private static final Comparator<StateModel> BEAM_ORDER = Comparator.comparingInt(StateModel::getFCost)
+            .thenComparingInt(StateModel::getMaximumFinishTime);
+
+    private final int beamWidth;
+
+    private volatile boolean isTruncated;
+
+    /**
+     * Constructor for the ParallelSchedulerBeam class
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     * @param beamWidth the number of states kept in each layer
+     * @throws IllegalArgumentException if the beam width is not positive
+     */
+    public ParallelSchedulerBeam(GraphModel graph, byte processors, byte cores, int beamWidth) {
+        super(graph, processors, cores);
+
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("The beam width must be positive");
+        }
+
+        this.beamWidth = beamWidth;
+    }
+
+    /**
+     * Expands every state of a layer in parallel, and keeps the states of the next layer with the smallest f-costs, up
+     * to the beam width. States with equal f-costs are ordered by their maximum finish time.
+     *
+     * @param layer the current layer
+     * @return the next layer, cut down to the beam width
+     */
+    @Override
+    protected Collection<StateModel> expandLayer(Collection<StateModel> layer) {
+        Collection<StateModel> nextLayer = super.expandLayer(layer);
+
+        if (nextLayer.size() <= this.beamWidth) {
+            return nextLayer;
+        }
+
+        this.isTruncated = true;
+
+        PriorityQueue<StateModel> beam = new PriorityQueue<>(this.beamWidth + 1, BEAM_ORDER.reversed());
+
+        for (StateModel state : nextLayer) {
+            beam.add(state);
+
+            if (beam.size() > this.beamWidth) {
+                beam.poll();
+            }
+        }
+
+        return new ArrayList<>(beam);
+    }
+
+    /**
+     * Returns the lower bound that the finished search has proven for its best state. Once a layer was cut down to the
+     * beam width, the left out states may lead to shorter schedules, so only the lower bound of the graph is proven.
+     *
+     * @param bestState the best state of the finished search
+     * @return the certified lower bound
+     */
+    @Override
+    protected int getCertifiedLowerBound(StateModel bestState) {
+        if (this.isTruncated) {
+            return getProvenLowerBound();
+        }
+
+        return super.getCertifiedLowerBound(bestState);
+    }
+
+    /**
+     * Returns the number of states kept in each layer.
+     *
+     * @return the beam width
+     */
+    public int getBeamWidth() {
+        return this.beamWidth;
+    }
+
+    /**
+     * Returns if a layer was cut down to the beam width, in which case the best state may not be optimal.
+     *
+     * @return if a layer was truncated
+     */
+    public boolean isTruncated() {
+        return this.isTruncated;
+    }
+}
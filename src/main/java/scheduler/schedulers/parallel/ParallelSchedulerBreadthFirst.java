@@ -0,0 +1,122 @@
+package scheduler.schedulers.parallel;
+
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+import scheduler.schedulers.sequential.FrontierAStarScheduler;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static scheduler.constants.Constants.BREADTH_FIRST_TASK_SIZE;
+import static scheduler.constants.Constants.INFINITY_32;
+
+/**
+ * Parallel scheduler using a breadth-first branch and bound. The depth of a state is its number of scheduled nodes, so
+ * the search is layer-synchronous, and every state of a layer is expanded in parallel with fork-and-join. Every state
+ * whose f-cost is not below the upper bound of the greedy schedule is pruned, and duplicate states are detected within
+ * the next layer with a concurrent set, so no global priority queue is shared between the threads.
+ */
+public class ParallelSchedulerBreadthFirst extends FrontierAStarScheduler {
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Constructor for the ParallelSchedulerBreadthFirst class
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     */
+    public ParallelSchedulerBreadthFirst(GraphModel graph, byte processors, byte cores) {
+        super(graph, processors);
+
+        this.forkJoinPool = new ForkJoinPool(cores);
+    }
+
+    /**
+     * Start the parallel scheduling process. The layers are searched once, without a threshold, as the upper bound
+     * already prunes every state that cannot improve the greedy schedule. If the last layer is empty, the greedy
+     * schedule is optimal.
+     */
+    @Override
+    public void schedule() {
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            this.threshold = INFINITY_32;
+
+            searchLayers(getInitialState());
+        }
+
+        setCurrentState(bestState);
+
+        metrics.setBestState(bestState);
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+    }
+
+    /**
+     * Expands every state of a layer in parallel, and returns the next layer without duplicate states.
+     *
+     * @param layer the current layer
+     * @return the next layer
+     */
+    @Override
+    protected Collection<StateModel> expandLayer(Collection<StateModel> layer) {
+        Set<StateModel> nextLayer = ConcurrentHashMap.newKeySet(layer.size());
+
+        this.forkJoinPool.invoke(new ExpandLayerTask(layer.toArray(new StateModel[0]), 0, layer.size(), nextLayer));
+
+        return nextLayer;
+    }
+
+    private class ExpandLayerTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final StateModel[] layer;
+
+        private final int start;
+
+        private final int end;
+
+        private final Set<StateModel> nextLayer;
+
+        /**
+         * Constructor for the ExpandLayerTask class
+         *
+         * @param layer the current layer
+         * @param start the first state of the task, inclusive
+         * @param end the last state of the task, exclusive
+         * @param nextLayer the next layer
+         */
+        private ExpandLayerTask(StateModel[] layer, int start, int end, Set<StateModel> nextLayer) {
+            this.layer = layer;
+            this.start = start;
+            this.end = end;
+            this.nextLayer = nextLayer;
+        }
+
+        /**
+         * Expands the states of the task, or splits the task in half if it has too many states.
+         */
+        @Override
+        protected void compute() {
+            if (this.end - this.start > BREADTH_FIRST_TASK_SIZE) {
+                int middle = (this.start + this.end) >>> 1;
+
+                invokeAll(new ExpandLayerTask(this.layer, this.start, middle, this.nextLayer),
+                        new ExpandLayerTask(this.layer, middle, this.end, this.nextLayer));
+
+                return;
+            }
+
+            for (int i = this.start; i < this.end; i++) {
+                setCurrentState(this.layer[i]);
+
+                expandStates(this.nextLayer::add, this.layer[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package scheduler.schedulers.parallel;
+
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+import scheduler.schedulers.sequential.AStarScheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static scheduler.constants.Constants.SUBTREE_TASK_DEPTH;
+import static scheduler.constants.Constants.SURPLUS_TASK_THRESHOLD;
+import static scheduler.constants.Constants.TRANSPOSITION_TABLE_SIZE;
+
+/**
+ * Parallel scheduler using a depth-first branch and bound. The subtrees near the root are always split into
+ * fork-and-join tasks, and deeper subtrees are only split while the workers have few queued tasks, i.e., while an idle
+ * worker could steal them. Every other subtree is searched in the same task. Instead of a closed list, duplicate
+ * states are detected by a transposition table of fixed size, so the memory does not grow with the search. The states
+ * are pruned by the A star's rules and lower bounds, and the best state is shared between the workers without a lock.
+ */
+public class ParallelSchedulerDepthFirst extends AStarScheduler {
+    private final ForkJoinPool forkJoinPool;
+
+    private final AtomicReferenceArray<StateModel> transpositionTable;
+
+    /**
+     * Constructor for the ParallelSchedulerDepthFirst class
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     */
+    public ParallelSchedulerDepthFirst(GraphModel graph, byte processors, byte cores) {
+        super(graph, processors);
+
+        this.forkJoinPool = new ForkJoinPool(cores);
+
+        this.transpositionTable = new AtomicReferenceArray<>(TRANSPOSITION_TABLE_SIZE);
+    }
+
+    /**
+     * Partial expansion is not supported, as a re-inserted state would be searched again as its own child.
+     *
+     * @param isPartialExpansion if the A star uses partial expansion
+     */
+    @Override
+    public void setPartialExpansion(boolean isPartialExpansion) {
+        if (isPartialExpansion) {
+            throw new UnsupportedOperationException("The depth-first branch and bound does not use partial expansion");
+        }
+    }
+
+    /**
+     * Start the parallel scheduling process.
+     */
+    @Override
+    public void schedule() {
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            this.forkJoinPool.invoke(new SubtreeTask(getInitialState()));
+        }
+
+        setCurrentState(bestState);
+
+        metrics.setBestState(bestState);
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+    }
+
+    /**
+     * Checks if the next state is in the transposition table, and replaces the entry of its hash with it. An entry is
+     * overwritten by any later state with the same hash, so a duplicate state may be searched again, but a state is
+     * never skipped unless an equal state was already opened. The allocation-ordering state space has no duplicate
+     * states, so it does not use the transposition table.
+     *
+     * @param nextState the next state
+     * @return if an equal state was already opened
+     */
+    @Override
+    protected boolean isDuplicateState(StateModel nextState) {
+        if (getSearchModelType() != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING) {
+            return false;
+        }
+
+        int hash = nextState.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (TRANSPOSITION_TABLE_SIZE - 1);
+
+        return nextState.equals(this.transpositionTable.getAndSet(index, nextState));
+    }
+
+    private class SubtreeTask extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final StateModel state;
+
+        /**
+         * Constructor for the SubtreeTask class
+         *
+         * @param state the root state of the subtree
+         */
+        private SubtreeTask(StateModel state) {
+            this.state = state;
+        }
+
+        /**
+         * Searches the subtree of the task.
+         *
+         * @return nothing
+         */
+        @Override
+        protected Void compute() {
+            searchSubtree(this.state);
+
+            return null;
+        }
+
+        /**
+         * Searches the subtree of a state depth-first, starting with the children of the smallest f-cost. A child is
+         * forked as its own task if it is near the root, or if the worker has few queued tasks left to be stolen.
+         *
+         * @param state the current state
+         */
+        private void searchSubtree(StateModel state) {
+            setCurrentState(state);
+
+            if (state.areAllNodesScheduled()) {
+                offerBestState(state);
+
+                return;
+            }
+
+            if (canPruneCost(state.getFCost()) || isCancelled()) {
+                return;
+            }
+
+            List<StateModel> nextStates = new ArrayList<>();
+
+            expandStates(nextStates::add, state);
+
+            nextStates.sort(Comparator.comparingInt(StateModel::getFCost));
+
+            List<SubtreeTask> forkedTasks = new ArrayList<>();
+
+            for (StateModel nextState : nextStates) {
+                if (nextState.getNumberOfScheduledNodes() < SUBTREE_TASK_DEPTH || getSurplusQueuedTaskCount() < SURPLUS_TASK_THRESHOLD) {
+                    SubtreeTask task = new SubtreeTask(nextState);
+                    task.fork();
+
+                    forkedTasks.add(task);
+                } else {
+                    searchSubtree(nextState);
+                }
+            }
+
+            for (SubtreeTask task : forkedTasks) {
+                task.join();
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package scheduler.schedulers.parallel;
 
 import scheduler.models.GraphModel;
-import scheduler.models.NodeModel;
 import scheduler.models.StateModel;
 import scheduler.schedulers.sequential.AStarScheduler;
 
@@ -10,9 +9,16 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static scheduler.constants.Constants.DYNAMIC_POLL_TIMEOUT;
 
 /**
- * Parallel scheduler using a naive dynamic load distribution technique.
+ * Parallel scheduler using a naive dynamic load distribution technique. Every worker has its own queue of opened
+ * states, and hands the children of its states to the workers in turn. A complete state is offered as the best state
+ * instead of ending the search, and every state that cannot improve the best state is pruned when it is polled. The
+ * search ends once no state is queued or being expanded by any worker, which is counted by the pending states, so the
+ * best state is optimal once every worker has stopped.
  */
 public class ParallelSchedulerDynamic extends AStarScheduler {
     private final ExecutorService threadPool;
@@ -21,10 +27,10 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
 
     private final Worker[] workers;
 
-    private final Object bestStateLock;
-
     private final AtomicInteger workerId;
 
+    private final AtomicLong numberOfPendingStates;
+
     private final byte cores;
 
     /**
@@ -39,35 +45,49 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
 
         this.threadPool = Executors.newFixedThreadPool(cores);
 
-        this.initialStates = new PriorityQueue<>(Comparator.comparingInt(this::getFCost));
+        this.initialStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
 
         closedStates = ConcurrentHashMap.newKeySet();
 
         this.workers = new Worker[cores];
 
-        this.bestStateLock = new Object();
-
         this.workerId = new AtomicInteger(0);
 
+        this.numberOfPendingStates = new AtomicLong(0);
+
         this.cores = cores;
     }
 
     /**
-     * Runs the A star with heuristic, i.e., we set an upper limit for the number of states in the queue.
+     * Runs the A star with heuristic, i.e., we set an upper limit for the number of states in the queue. The initial
+     * states are polled in f-cost order, so once a polled state can be pruned or is complete, the search is finished
+     * and no state is left for the workers.
      */
     private void runAStarScheduleWithHeuristic() {
-        this.initialStates.add(new StateModel(this.processors, this.numberOfNodes));
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            this.initialStates.add(getInitialState());
+        }
 
-        while (!this.initialStates.isEmpty() && this.initialStates.size() < this.numberOfNodes * this.cores) {
+        while (!this.initialStates.isEmpty() && this.initialStates.size() < this.numberOfNodes * this.cores && !isCancelled()) {
             StateModel state = this.initialStates.poll();
 
+            if (canPruneCost(state.getStoredFCost())) {
+                this.initialStates.clear();
+
+                break;
+            }
+
+            raiseLowerBound(state.getStoredFCost());
+
             if (state.areAllNodesScheduled()) {
-                bestState = state;
+                offerBestState(state);
+
+                this.initialStates.clear();
 
                 break;
             }
 
-            expandStates(this.initialStates, state);
+            expandStates(this.initialStates::add, state);
         }
     }
 
@@ -81,6 +101,8 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
 
         int workerId = 0;
 
+        this.numberOfPendingStates.set(this.initialStates.size());
+
         while (!this.initialStates.isEmpty()) {
             this.workers[workerId].openedStates.add(this.initialStates.poll());
             workerId = (workerId + 1) % this.cores;
@@ -88,26 +110,62 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
     }
 
     /**
-     * Queue an initial workload for the workers.
+     * Queue an initial workload for the workers. If a worker fails, the other workers are stopped, as they would wait
+     * for its pending states forever, and the failure is thrown once they have stopped.
      */
     @Override
     public void schedule() {
+        startSearch();
+
         runAStarScheduleWithHeuristic();
 
         assignWorkToWorkers();
 
+        ExecutionException failure = null;
+
         try {
-            this.threadPool.invokeAll(List.of(workers));
+            for (Future<Void> future : this.threadPool.invokeAll(List.of(workers))) {
+                try {
+                    future.get();
+                } catch (ExecutionException exception) {
+                    failure = exception;
+                }
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         } finally {
             this.threadPool.shutdown();
         }
 
+        if (failure != null) {
+            throw new IllegalStateException("A worker of the search failed", failure.getCause());
+        }
+
         setCurrentState(bestState);
 
         metrics.setBestState(bestState);
         metrics.setNumberOfClosedStates(closedStates.size());
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        releaseStates();
+    }
+
+    /**
+     * Releases the initial states and the opened states of the workers once the search has been cancelled, as
+     * they are never polled again.
+     */
+    @Override
+    protected void releaseStates() {
+        super.releaseStates();
+
+        if (isCancelled()) {
+            this.initialStates.clear();
+
+            for (Worker worker : this.workers) {
+                worker.openedStates.clear();
+            }
+        }
     }
 
     /**
@@ -120,23 +178,13 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
     }
 
     /**
-     * Gets the current worker's id
+     * Returns the id of the worker that the next state is handed to, and moves on to the following worker. The id is
+     * taken and advanced atomically, so it stays within the workers when several workers hand out states at once.
      *
-     * @return the current worker's id
+     * @return the id of the next worker
      */
-    private int getWorkerId() {
-        return this.workerId.get();
-    }
-
-    /**
-     * Increments the current worker's id.
-     */
-    private void incrementWorkerId() {
-        int workerId = this.workerId.incrementAndGet();
-
-        if (workerId == this.cores) {
-            this.workerId.set(0);
-        }
+    private int getNextWorkerId() {
+        return Math.floorMod(this.workerId.getAndIncrement(), this.cores);
     }
 
     /**
@@ -148,7 +196,7 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
         private final int workerId;
 
         public Worker(byte workerId) {
-            this.openedStates = new PriorityBlockingQueue<>(cores, Comparator.comparingInt(ParallelSchedulerDynamic.this::getFCost));
+            this.openedStates = new PriorityBlockingQueue<>(cores, Comparator.comparingInt(StateModel::getStoredFCost));
 
             this.workerId = workerId;
         }
@@ -160,133 +208,83 @@ public class ParallelSchedulerDynamic extends AStarScheduler {
          */
         @Override
         public Void call() {
-            processPendingStates();
+            try {
+                processPendingStates();
+            } catch (RuntimeException | Error exception) {
+                cancel();
+
+                throw exception;
+            }
 
             return null;
         }
 
         /**
-         * Process the pending states.
+         * Process the pending states. A worker whose queue is empty waits for the other workers to hand it states, and
+         * stops once no state is pending anywhere.
          */
         private void processPendingStates() {
-            while (!this.openedStates.isEmpty()) {
-                StateModel state = this.openedStates.poll();
+            while (!isCancelled()) {
+                StateModel state;
 
-                setCurrentState(state);
+                try {
+                    state = this.openedStates.poll(DYNAMIC_POLL_TIMEOUT, TimeUnit.MICROSECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
 
-                if (state.areAllNodesScheduled()) {
-                    updateBestState(state);
-
-                    break;
+                    return;
                 }
 
-                setWorkerId(this.workerId);
-
-                expandStates(state);
-            }
-        }
+                if (state == null) {
+                    if (numberOfPendingStates.get() == 0) {
+                        return;
+                    }
 
-        /**
-         * Update the best state
-         *
-         * @param state the current state
-         */
-        private void updateBestState(StateModel state) {
-            synchronized (bestStateLock) {
-                if (state.getMaximumFinishTime() < bestState.getMaximumFinishTime()) {
-                    bestState = state;
+                    continue;
                 }
-            }
-        }
-
-        /**
-         * Expand states
-         *
-         * @param state the current state
-         */
-        private void expandStates(StateModel state) {
-            List<NodeModel> availableNodes = getAvailableNodes(state);
-
-            NodeModel fixedNode = getFixedNodeOrder(state, availableNodes);
 
-            if (fixedNode != null) {
-                for (byte processor = 0; processor < processors; processor++) {
-                    expandState(state, fixedNode, processor);
-                }
-            } else {
-                for (NodeModel node : availableNodes) {
-                    for (byte processor = 0; processor < processors; processor++) {
-                        expandState(state, node, processor);
-                    }
+                try {
+                    processState(state);
+                } finally {
+                    numberOfPendingStates.decrementAndGet();
                 }
             }
         }
 
         /**
-         * Expand the current state.
+         * Process a single state. The state is pruned if it cannot improve the best state, which may have been
+         * improved by another worker after the state was opened. The children are handed out before the state stops
+         * being pending, so the pending states only reach zero once the search is finished.
          *
          * @param state the current state
-         * @param node the current node
-         * @param processor the processor
          */
-        private void expandState(StateModel state, NodeModel node, byte processor) {
-            if (isFirstAvailableNode(state, node)) {
-                return;
-            }
-
-            StateModel nextState = state.clone();
+        private void processState(StateModel state) {
+            setCurrentState(state);
 
-            int earliestStartTime = getEarliestStartTime(state, node, processor);
-
-            nextState.addNode(node, processor, earliestStartTime);
-            nextState.setParentMaximumBottomLevelPathLength(state.getMaximumBottomLevelPathLength());
-
-            if (canPruneState(nextState)) {
-                return;
-            }
-
-            if (isStateEquivalent(nextState, node, processor)) {
+            if (canPruneCost(state.getStoredFCost())) {
                 return;
             }
 
-            distributeWork(nextState);
-
-            metrics.incrementNumberOfOpenedStates();
-        }
+            if (state.areAllNodesScheduled()) {
+                offerBestState(state);
 
-        /**
-         * Checks if a state can be pruned.
-         *
-         * @param state the current state
-         * @return if the state can be pruned
-         */
-        private boolean canPruneState(StateModel state) {
-            if (!closedStates.add(state)) {
-                return true;
+                return;
             }
 
-            return state.getMaximumFinishTime() >= getBestStateFinishTime();
-        }
+            setWorkerId(this.workerId);
 
-        /**
-         * Gets the best state finish time
-         *
-         * @return the best state finish time
-         */
-        private int getBestStateFinishTime() {
-            synchronized (bestStateLock) {
-                return bestState.getMaximumFinishTime();
-            }
+            expandStates(this::distributeWork, state);
         }
 
         /**
-         * Distribute workload to other worker threads
+         * Distribute workload to other worker threads. The state is counted as pending before it is queued.
          *
          * @param state the current state
          */
         private void distributeWork(StateModel state) {
-            workers[getWorkerId()].openedStates.add(state);
-            incrementWorkerId();
+            numberOfPendingStates.incrementAndGet();
+
+            workers[getNextWorkerId()].openedStates.add(state);
         }
     }
 }
\ No newline at end of file
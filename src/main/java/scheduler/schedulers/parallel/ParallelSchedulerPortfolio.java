@@ -0,0 +1,246 @@
+package scheduler.schedulers.parallel;
+
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+import scheduler.schedulers.Scheduler;
+import scheduler.schedulers.listeners.SchedulerListener;
+import scheduler.schedulers.sequential.AStarScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static scheduler.constants.Constants.PORTFOLIO_SHARING_INTERVAL;
+
+/**
+ * Parallel scheduler that races a portfolio of schedulers on the same graph. Every scheduler runs on its own share of
+ * the cores, and the best state of each scheduler is passed on to the others as their upper bound. The first scheduler
+ * that finishes its search has proven its best state optimal, so the other schedulers are cancelled.
+ */
+public class ParallelSchedulerPortfolio extends Scheduler {
+    private final List<AStarScheduler> schedulers;
+
+    private final ExecutorService threadPool;
+
+    private volatile AStarScheduler winningScheduler;
+
+    /**
+     * Constructor for the ParallelSchedulerPortfolio class. The cores are shared by the A star, the A star in the
+     * allocation-ordering state space, and the parallel depth-first branch and bound, in that order, so each scheduler
+     * is only added if there is a core left for it.
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     */
+    public ParallelSchedulerPortfolio(GraphModel graph, byte processors, byte cores) {
+        this(graph, processors, getDefaultSchedulers(graph, processors, cores));
+    }
+
+    /**
+     * Constructor for the ParallelSchedulerPortfolio class
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param schedulers the schedulers of the same graph to race
+     */
+    public ParallelSchedulerPortfolio(GraphModel graph, byte processors, List<AStarScheduler> schedulers) {
+        super(graph, processors);
+
+        if (schedulers.isEmpty()) {
+            throw new IllegalArgumentException("The portfolio needs at least one scheduler");
+        }
+
+        this.schedulers = List.copyOf(schedulers);
+
+        this.threadPool = Executors.newFixedThreadPool(this.schedulers.size());
+
+        for (AStarScheduler scheduler : this.schedulers) {
+            offerBestState(scheduler.getBestState());
+        }
+    }
+
+    /**
+     * Returns the default schedulers of the portfolio for a number of cores.
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     * @return the schedulers to race
+     */
+    private static List<AStarScheduler> getDefaultSchedulers(GraphModel graph, byte processors, byte cores) {
+        List<AStarScheduler> schedulers = new ArrayList<>();
+
+        schedulers.add(new AStarScheduler(graph, processors));
+
+        if (cores >= 3) {
+            AStarScheduler allocationOrderingScheduler = new AStarScheduler(graph, processors);
+            allocationOrderingScheduler.setSearchModelType(SearchModelType.ALLOCATION_ORDERING);
+
+            schedulers.add(allocationOrderingScheduler);
+        }
+
+        if (cores >= 2) {
+            schedulers.add(new ParallelSchedulerDepthFirst(graph, processors, (byte) (cores - schedulers.size())));
+        }
+
+        return schedulers;
+    }
+
+    /**
+     * Start the portfolio. While the schedulers are running, their best states are shared every sharing interval.
+     * Once the first scheduler finishes, the others are cancelled, and its best state and metrics are kept. A scheduler
+     * that fails is left out of the race, unless every scheduler fails. If the portfolio is cancelled, every scheduler
+     * is cancelled, and the best state shared so far is kept.
+     */
+    @Override
+    public void schedule() {
+        startSearch();
+
+        CompletionService<AStarScheduler> completionService = new ExecutorCompletionService<>(this.threadPool);
+
+        for (AStarScheduler scheduler : this.schedulers) {
+            completionService.submit(() -> {
+                scheduler.schedule();
+
+                return scheduler;
+            });
+        }
+
+        ExecutionException failure = null;
+
+        try {
+            int numberOfRunningSchedulers = this.schedulers.size();
+
+            while (this.winningScheduler == null && numberOfRunningSchedulers > 0 && !isCancelled()) {
+                Future<AStarScheduler> future = completionService.poll(PORTFOLIO_SHARING_INTERVAL, TimeUnit.MILLISECONDS);
+
+                shareBestStates();
+
+                if (future == null) {
+                    continue;
+                }
+
+                numberOfRunningSchedulers--;
+
+                try {
+                    this.winningScheduler = future.get();
+                } catch (ExecutionException exception) {
+                    failure = exception;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (AStarScheduler scheduler : this.schedulers) {
+                scheduler.cancel();
+            }
+
+            this.threadPool.shutdown();
+        }
+
+        if (this.winningScheduler == null && !isCancelled()) {
+            throw new IllegalStateException("No scheduler of the portfolio finished", failure);
+        }
+
+        if (this.winningScheduler != null) {
+            bestState = this.winningScheduler.getBestState();
+
+            metrics = this.winningScheduler.getMetrics();
+        } else {
+            shareBestStates();
+        }
+
+        metrics.setBestState(bestState);
+        metrics.setCancelled(this.winningScheduler == null);
+        finishSearch();
+    }
+
+    /**
+     * Takes the shortest best state of the schedulers, and offers it to every scheduler as its upper bound. The lower
+     * bound of the portfolio is the highest lower bound proven by any scheduler.
+     */
+    private void shareBestStates() {
+        for (AStarScheduler scheduler : this.schedulers) {
+            offerBestState(scheduler.getBestState());
+            raiseLowerBound(scheduler.getProvenLowerBound());
+        }
+
+        for (AStarScheduler scheduler : this.schedulers) {
+            scheduler.offerUpperBound(bestState);
+        }
+    }
+
+    /**
+     * Returns the lower bound that the winning scheduler has proven for its best state, which is below the finish time
+     * of its best state if it searched with an epsilon.
+     *
+     * @param bestState the best state of the finished portfolio
+     * @return the certified lower bound
+     */
+    @Override
+    protected int getCertifiedLowerBound(StateModel bestState) {
+        return this.winningScheduler.getProvenLowerBound();
+    }
+
+    /**
+     * Sets if every scheduler of the portfolio times the evaluations of its rules.
+     *
+     * @param isRuleTiming represents if the rule evaluations are timed.
+     */
+    @Override
+    public void setRuleTiming(boolean isRuleTiming) {
+        super.setRuleTiming(isRuleTiming);
+
+        for (AStarScheduler scheduler : this.schedulers) {
+            scheduler.setRuleTiming(isRuleTiming);
+        }
+    }
+
+    /**
+     * Adds a listener to every scheduler of the portfolio, so it receives the events of each search as they happen.
+     * The lower bounds of different schedulers are reported separately, so they may arrive out of order.
+     *
+     * @param listener represents the listener to add.
+     */
+    @Override
+    public void addListener(SchedulerListener listener) {
+        for (AStarScheduler scheduler : this.schedulers) {
+            scheduler.addListener(listener);
+        }
+    }
+
+    /**
+     * Removes a listener from every scheduler of the portfolio.
+     *
+     * @param listener represents the listener to remove.
+     */
+    @Override
+    public void removeListener(SchedulerListener listener) {
+        for (AStarScheduler scheduler : this.schedulers) {
+            scheduler.removeListener(listener);
+        }
+    }
+
+    /**
+     * Returns the scheduler that finished first, or null if the portfolio has not finished.
+     *
+     * @return the winning scheduler
+     */
+    public AStarScheduler getWinningScheduler() {
+        return this.winningScheduler;
+    }
+
+    /**
+     * Returns the current state of the winning scheduler, or of the first scheduler while the portfolio is running.
+     *
+     * @return the current state
+     */
+    @Override
+    public StateModel getCurrentState() {
+        AStarScheduler scheduler = this.winningScheduler;
+
+        return (scheduler == null ? this.schedulers.get(0) : scheduler).getCurrentState();
+    }
+}
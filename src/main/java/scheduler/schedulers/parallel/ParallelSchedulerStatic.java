@@ -1,14 +1,12 @@
 package scheduler.schedulers.parallel;
 
 import scheduler.models.GraphModel;
-import scheduler.models.NodeModel;
 import scheduler.models.StateModel;
 import scheduler.schedulers.sequential.AStarScheduler;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
-import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -22,12 +20,8 @@ public class ParallelSchedulerStatic extends AStarScheduler {
 
     private final PriorityQueue<StateModel> initialStates;
 
-    private final Set<StateModel> closedStates;
-
     private final Worker[] workers;
 
-    private final Object bestStateLock;
-
     private final byte cores;
 
     /**
@@ -42,14 +36,12 @@ public class ParallelSchedulerStatic extends AStarScheduler {
 
         this.threadPool = Executors.newFixedThreadPool(cores);
 
-        this.initialStates = new PriorityQueue<>(Comparator.comparingInt(this::getFCost));
+        this.initialStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
 
-        this.closedStates = ConcurrentHashMap.newKeySet();
+        closedStates = ConcurrentHashMap.newKeySet();
 
         this.workers = new Worker[cores];
 
-        this.bestStateLock = new Object();
-
         this.cores = cores;
     }
 
@@ -57,9 +49,9 @@ public class ParallelSchedulerStatic extends AStarScheduler {
      * Runs the A star with heuristic, i.e., we set an upper limit for the number of states in the queue.
      */
     private void runAStarScheduleWithHeuristic() {
-        this.initialStates.add(new StateModel(processors, numberOfNodes));
+        this.initialStates.add(getInitialState());
 
-        while (!this.initialStates.isEmpty() && this.initialStates.size() < numberOfNodes * this.cores) {
+        while (!this.initialStates.isEmpty() && this.initialStates.size() < numberOfNodes * this.cores && !isCancelled()) {
             StateModel state = this.initialStates.poll();
 
             setCurrentState(state);
@@ -67,14 +59,12 @@ public class ParallelSchedulerStatic extends AStarScheduler {
             if (state.areAllNodesScheduled()) {
                 bestState = state;
 
+                fireIncumbentImproved(state);
+
                 break;
             }
 
-            for (NodeModel node : getAvailableNodes(state)) {
-                for (byte processor = 0; processor < processors; processor++) {
-                    expandState(this.initialStates, state, node, processor);
-                }
-            }
+            expandStates(this.initialStates::add, state);
         }
 
         setCurrentState(bestState);
@@ -101,6 +91,8 @@ public class ParallelSchedulerStatic extends AStarScheduler {
      */
     @Override
     public void schedule() {
+        startSearch();
+
         runAStarScheduleWithHeuristic();
 
         assignWorkToWorkers();
@@ -114,14 +106,35 @@ public class ParallelSchedulerStatic extends AStarScheduler {
         }
 
         metrics.setBestState(this.bestState);
-        metrics.setNumberOfClosedStates(this.closedStates.size());
+        metrics.setNumberOfClosedStates(closedStates.size());
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        releaseStates();
+    }
+
+    /**
+     * Releases the initial states and the opened states of the workers once the search has been cancelled, as
+     * they are never polled again.
+     */
+    @Override
+    protected void releaseStates() {
+        super.releaseStates();
+
+        if (isCancelled()) {
+            this.initialStates.clear();
+
+            for (Worker worker : this.workers) {
+                worker.openedStates.clear();
+            }
+        }
     }
 
     /**
      * Worker class
      */
     private class Worker implements Callable<Void> {
-        private final PriorityQueue<StateModel> openedStates = new PriorityQueue<>(Comparator.comparingInt(ParallelSchedulerStatic.this::getFCost));
+        private final PriorityQueue<StateModel> openedStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
 
         /**
          * Start worker thread.
@@ -139,105 +152,18 @@ public class ParallelSchedulerStatic extends AStarScheduler {
          * Process the pending states for the current worker.
          */
         private void processPendingStates() {
-            while (!this.openedStates.isEmpty()) {
+            while (!this.openedStates.isEmpty() && !isCancelled()) {
                 StateModel state = this.openedStates.poll();
 
                 setCurrentState(state);
 
                 if (state.areAllNodesScheduled()) {
-                    updateBestState(state);
+                    offerBestState(state);
 
                     break;
                 }
 
-                expandStates(state);
-            }
-        }
-
-        /**
-         * Update the best state.
-         *
-         * @param state the current state to be set as the best state
-         */
-        private void updateBestState(StateModel state) {
-            synchronized (bestStateLock) {
-                if (state.getMaximumFinishTime() < bestState.getMaximumFinishTime()) {
-                    bestState = state;
-                }
-            }
-        }
-
-        /**
-         * Expand the number of states
-         *
-         * @param state the current state
-         */
-        private void expandStates(StateModel state) {
-            for (NodeModel node : getAvailableNodes(state)) {
-                if (isFirstAvailableNode(state, node)) {
-                    continue;
-                }
-
-                for (byte processor = 0; processor < processors; processor++) {
-                    expandState(state, node, processor);
-                }
-            }
-        }
-
-        /**
-         * Expand current state.
-         *
-         * @param state the current state
-         * @param node the current node
-         * @param processor the processor
-         */
-        private void expandState(StateModel state, NodeModel node, byte processor) {
-            if (isFirstAvailableNode(state, node)) {
-                return;
-            }
-
-            StateModel nextState = state.clone();
-
-            int earliestStartTime = getEarliestStartTime(state, node, processor);
-
-            nextState.addNode(node, processor, earliestStartTime);
-            nextState.setParentMaximumBottomLevelPathLength(state.getMaximumBottomLevelPathLength());
-
-            if (canPruneState(nextState)) {
-                return;
-            }
-
-            if (isStateEquivalent(nextState, node, processor)) {
-                return;
-            }
-
-            this.openedStates.add(nextState);
-
-            metrics.incrementNumberOfOpenedStates();
-        }
-
-        /**
-         * Checks if a state can be pruned.
-         *
-         * @param state the current state
-         * @return if a state can be pruned
-         */
-        private boolean canPruneState(StateModel state) {
-            if (!closedStates.add(state)) {
-                return true;
-            }
-
-            return state.getMaximumFinishTime() >= getBestStateFinishTime();
-        }
-
-        /**
-         * Get the best state finish time
-         *
-         * @return the best state finish time
-         */
-        private int getBestStateFinishTime() {
-            synchronized (bestStateLock) {
-                return bestState.getMaximumFinishTime();
+                expandStates(this.openedStates::add, state);
             }
         }
     }
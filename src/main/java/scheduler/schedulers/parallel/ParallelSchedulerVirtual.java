@@ -0,0 +1,167 @@
+package scheduler.schedulers.parallel;
+
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+import scheduler.schedulers.sequential.AStarScheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static scheduler.constants.Constants.SUBTREE_TASK_DEPTH;
+
+/**
+ * Parallel scheduler that explores the search tree as many small subtree tasks. Every state above the subtree task
+ * depth is searched by its own task, and the states below it are searched depth-first inside the task, pruned by the
+ * A star's rules and the shared best state. The tasks run on virtual threads when the Java runtime provides them, and
+ * on a fixed pool of platform threads otherwise. A semaphore matched to the number of cores bounds how many tasks
+ * search at the same time.
+ */
+public class ParallelSchedulerVirtual extends AStarScheduler {
+    private final ExecutorService executor;
+
+    private final Semaphore permits;
+
+    private final AtomicInteger numberOfPendingTasks;
+
+    private final CompletableFuture<Void> isSearchComplete;
+
+    /**
+     * Constructor for the ParallelSchedulerVirtual class
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param cores the number of cores
+     */
+    public ParallelSchedulerVirtual(GraphModel graph, byte processors, byte cores) {
+        super(graph, processors);
+
+        this.executor = getExecutor(cores);
+
+        this.permits = new Semaphore(cores);
+
+        this.numberOfPendingTasks = new AtomicInteger(0);
+
+        this.isSearchComplete = new CompletableFuture<>();
+
+        closedStates = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread for every task. The project is compiled for Java 17, so the
+     * executor is looked up at runtime, and a fixed pool of platform threads is used if it does not exist.
+     *
+     * @param cores the number of cores
+     * @return the executor of the tasks
+     */
+    private static ExecutorService getExecutor(byte cores) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return Executors.newFixedThreadPool(cores);
+        }
+    }
+
+    /**
+     * Partial expansion is not supported, as a re-inserted state would be searched again as its own child.
+     *
+     * @param isPartialExpansion if the A star uses partial expansion
+     */
+    @Override
+    public void setPartialExpansion(boolean isPartialExpansion) {
+        if (isPartialExpansion) {
+            throw new UnsupportedOperationException("The subtree tasks do not use partial expansion");
+        }
+    }
+
+    /**
+     * Start the parallel scheduling process, and wait until every task has finished.
+     */
+    @Override
+    public void schedule() {
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            submitTask(getInitialState());
+
+            try {
+                this.isSearchComplete.join();
+            } finally {
+                this.executor.shutdown();
+            }
+        } else {
+            this.executor.shutdown();
+        }
+
+        setCurrentState(bestState);
+
+        metrics.setBestState(bestState);
+        metrics.setNumberOfClosedStates(closedStates.size());
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        releaseStates();
+    }
+
+    /**
+     * Submits a task that searches the subtree of a state. The search is complete once the last pending task
+     * finishes, and it fails with the first exception of a task.
+     *
+     * @param state the root state of the subtree
+     */
+    private void submitTask(StateModel state) {
+        this.numberOfPendingTasks.incrementAndGet();
+
+        this.executor.execute(() -> {
+            this.permits.acquireUninterruptibly();
+
+            try {
+                searchSubtree(state);
+            } catch (RuntimeException exception) {
+                this.isSearchComplete.completeExceptionally(exception);
+            } finally {
+                this.permits.release();
+
+                if (this.numberOfPendingTasks.decrementAndGet() == 0) {
+                    this.isSearchComplete.complete(null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Searches the subtree of a state depth-first, starting with the children of the smallest f-cost. A child above
+     * the subtree task depth is submitted as its own task instead.
+     *
+     * @param state the current state
+     */
+    private void searchSubtree(StateModel state) {
+        setCurrentState(state);
+
+        if (state.areAllNodesScheduled()) {
+            offerBestState(state);
+
+            return;
+        }
+
+        if (canPruneCost(state.getFCost()) || isCancelled()) {
+            return;
+        }
+
+        List<StateModel> nextStates = new ArrayList<>();
+
+        expandStates(nextStates::add, state);
+
+        nextStates.sort(Comparator.comparingInt(StateModel::getFCost));
+
+        for (StateModel nextState : nextStates) {
+            if (nextState.getNumberOfScheduledNodes() < SUBTREE_TASK_DEPTH) {
+                submitTask(nextState);
+            } else {
+                searchSubtree(nextState);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package scheduler.schedulers.rules;
+
+import scheduler.models.StateModel;
+
+/**
+ * A lower bound on the finish time of every complete schedule that can be reached from a state. The f-cost of a state
+ * is the maximum of its lower bounds, so each lower bound must be admissible.
+ */
+@FunctionalInterface
+public interface LowerBound {
+    /**
+     * Returns the lower bound of the state.
+     *
+     * @param state the current state
+     * @return the lower bound
+     */
+    int getLowerBound(StateModel state);
+}
@@ -0,0 +1,20 @@
+package scheduler.schedulers.rules;
+
+import scheduler.models.StateModel;
+
+/**
+ * A pruning rule decides if a next state can be left out of the search without losing every optimal schedule. The
+ * next state is created lazily on top of the current state, so a rule can read it without copying any arrays.
+ */
+@FunctionalInterface
+public interface PruningRule {
+    /**
+     * Checks if the next state can be pruned.
+     *
+     * @param state the current state
+     * @param nextState the next state, whose last node is the node that was just added
+     * @param isFixedNodeOrder if the node was chosen by the fixed task ordering
+     * @return if the next state can be pruned
+     */
+    boolean canPrune(StateModel state, StateModel nextState, boolean isFixedNodeOrder);
+}
@@ -1,11 +1,19 @@
 package scheduler.schedulers.sequential;
 
 import java.util.*;
+import java.util.function.Consumer;
 
+import scheduler.enums.LowerBoundType;
+import scheduler.enums.SearchModelType;
+import scheduler.models.AllocationModel;
+import scheduler.models.GraphDeltaModel;
 import scheduler.models.GraphModel;
 import scheduler.models.NodeModel;
+import scheduler.models.RuleMetricsModel;
 import scheduler.models.StateModel;
 import scheduler.schedulers.Scheduler;
+import scheduler.schedulers.rules.LowerBound;
+import scheduler.schedulers.rules.PruningRule;
 
 import static scheduler.constants.Constants.INFINITY_32;
 
@@ -15,6 +23,25 @@ import static scheduler.constants.Constants.INFINITY_32;
 public class AStarScheduler extends Scheduler {
     private final PriorityQueue<StateModel> openedStates;
 
+    private boolean isPartialExpansion;
+
+    private double epsilon;
+    private double epsilonFactor = 1;
+
+    private int previousLowerBound;
+
+    private SearchModelType searchModelType = SearchModelType.EXHAUSTIVE_LIST_SCHEDULING;
+
+    private final List<ProfiledPruningRule> pruningRules = new ArrayList<>();
+
+    private final List<ProfiledLowerBound> lowerBounds = new ArrayList<>();
+
+    private RuleMetricsModel costBoundMetrics;
+
+    private final ThreadLocal<EquivalenceBuffer> equivalenceBuffers = ThreadLocal.withInitial(() -> new EquivalenceBuffer(numberOfNodes));
+
+    private final ThreadLocal<int[]> lowerBoundBuffers = ThreadLocal.withInitial(() -> new int[Math.max(numberOfNodes, processors)]);
+
     /**
      * The AStarScheduler constructor
      *
@@ -24,36 +51,275 @@ public class AStarScheduler extends Scheduler {
     public AStarScheduler(GraphModel graph, byte processors) {
         super(graph, processors);
 
-        this.openedStates = new PriorityQueue<>(Comparator.comparingInt(this::getFCost));
+        this.openedStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
+
+        addDefaultRules();
+
+        bestState = getValidSchedule();
+    }
+
+    /**
+     * The AStarScheduler constructor that seeds the upper bound with a known feasible schedule. The seeded schedule is
+     * only used if it is shorter than the greedy schedule.
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param upperBoundState a feasible schedule of the graph on at most the given number of processors
+     */
+    public AStarScheduler(GraphModel graph, byte processors, StateModel upperBoundState) {
+        super(graph, processors);
+
+        this.openedStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
+
+        addDefaultRules();
 
         bestState = getValidSchedule();
+
+        if (upperBoundState.getMaximumFinishTime() < bestState.getMaximumFinishTime()) {
+            bestState = new StateModel(upperBoundState, processors);
+        }
+    }
+
+    /**
+     * The AStarScheduler constructor for incremental re-scheduling. The graph delta is applied to a copy of the graph
+     * of the previous scheduler, whose graph analysis is reused where it is unaffected by the delta. The previous
+     * optimal schedule is re-timed on the changed graph, keeping its processor allocation and task order, and is used
+     * as the upper bound if it is shorter than the greedy schedule. The lower bound that the previous scheduler proved,
+     * minus the total weight that the delta removes, is a lower bound of the changed graph, so the search is skipped
+     * if the re-timed schedule reaches it.
+     *
+     * @param scheduler the previous scheduler, which is not changed
+     * @param previousBestState the previous optimal schedule of the given scheduler
+     * @param delta the changes to the graph
+     */
+    public AStarScheduler(Scheduler scheduler, StateModel previousBestState, GraphDeltaModel delta) {
+        super(scheduler, delta);
+
+        this.openedStates = new PriorityQueue<>(Comparator.comparingInt(StateModel::getStoredFCost));
+
+        this.previousLowerBound = Math.max(0, scheduler.getProvenLowerBound() - delta.getWeightDecrease(scheduler.getGraph()));
+
+        addDefaultRules();
+
+        bestState = getValidSchedule();
+
+        StateModel retimedState = getRetimedSchedule(previousBestState, scheduler.getNodes());
+
+        if (retimedState != null && retimedState.getMaximumFinishTime() < bestState.getMaximumFinishTime()) {
+            bestState = retimedState;
+        }
+    }
+
+    /**
+     * Sets whether the A star uses partial expansion. A partially expanded state only opens the children whose f-cost
+     * equals its stored f-cost, and is re-inserted with the f-cost of its best remaining child, so children that are
+     * never polled are never added to the queue of opened states.
+     *
+     * @param isPartialExpansion if the A star uses partial expansion
+     */
+    public void setPartialExpansion(boolean isPartialExpansion) {
+        this.isPartialExpansion = isPartialExpansion;
+    }
+
+    /**
+     * Sets the factor by which the best state may be longer than an optimal schedule. A state is pruned once its
+     * f-cost times (1 + epsilon) reaches the finish time of the best state, so the search proves that its best state is
+     * at most (1 + epsilon) times optimal instead of optimal. Every scheduler that extends the A star prunes with the
+     * same bound. An epsilon of 0 is the exact search.
+     *
+     * @param epsilon the epsilon of the search, which must not be negative
+     */
+    public void setEpsilon(double epsilon) {
+        if (!(epsilon >= 0)) {
+            throw new IllegalArgumentException("The epsilon must not be negative");
+        }
+
+        this.epsilon = epsilon;
+        this.epsilonFactor = 1 + epsilon;
+    }
+
+    /**
+     * Gets the factor by which the best state may be longer than an optimal schedule.
+     *
+     * @return the epsilon of the search
+     */
+    public double getEpsilon() {
+        return this.epsilon;
+    }
+
+    /**
+     * Sets the state space model of the search. The exhaustive list scheduling model adds one node to one processor in
+     * each step, and relies on the closed states and the pruning techniques to remove duplicate states. The
+     * allocation-ordering model first allocates every node to a processor, and then orders the nodes on their
+     * processors, which creates no duplicate states, so no closed states are kept.
+     *
+     * @param searchModelType the state space model of the search
+     */
+    public void setSearchModelType(SearchModelType searchModelType) {
+        this.searchModelType = searchModelType;
+    }
+
+    /**
+     * Replaces the best state if the given state of the same graph has a shorter schedule, so a search that runs
+     * alongside other searches can prune with their best state. It is safe to call while the search is running.
+     *
+     * @param state the complete state
+     */
+    public void offerUpperBound(StateModel state) {
+        offerBestState(state);
+    }
+
+    /**
+     * Gets the state space model of the search.
+     *
+     * @return the state space model of the search
+     */
+    protected SearchModelType getSearchModelType() {
+        return this.searchModelType;
     }
 
     /**
-     * Perform the A star scheduling.
+     * Adds the built-in pruning rules and lower bounds. The pruning rules are evaluated in the order they are added, so
+     * the cheap rules come first. The lower bounds are added in the order of {@link LowerBoundType}.
+     */
+    private void addDefaultRules() {
+        addPruningRule("Equivalent nodes", (state, nextState, isFixedNodeOrder) ->
+                isFirstAvailableNode(state, nodes[nextState.getLastNode()]));
+        addPruningRule("Upper bound", (state, nextState, isFixedNodeOrder) ->
+                canPruneCost(nextState.getMaximumFinishTime()));
+        addPruningRule("Schedule equivalence", (state, nextState, isFixedNodeOrder) ->
+                !isFixedNodeOrder && isStateEquivalent(nextState, nodes[nextState.getLastNode()], nextState.getNodeProcessor(nextState.getLastNode())));
+
+        addLowerBound("Idle time", this::getIdleTime);
+        addLowerBound("Bottom level", StateModel::getMaximumBottomLevelPathLength);
+        addLowerBound("Data ready time", this::getMaximumDataReadyTime);
+        addLowerBound("Processor free time", this::getProcessorFreeTime);
+        addLowerBound("Communication", this::getMaximumCommunicationTime);
+
+        setLowerBound(LowerBoundType.DATA_READY_TIME, false);
+        setLowerBound(LowerBoundType.PROCESSOR_FREE_TIME, false);
+
+        this.costBoundMetrics = metrics.addRuleMetrics("Cost bound");
+    }
+
+    /**
+     * Adds a pruning rule, which is evaluated after the rules that were added before it. Every scheduler that extends
+     * the A star evaluates the same rules in the same order.
+     *
+     * @param name the name of the rule in the metrics
+     * @param pruningRule the pruning rule
+     */
+    public void addPruningRule(String name, PruningRule pruningRule) {
+        this.pruningRules.add(new ProfiledPruningRule(pruningRule, metrics.addRuleMetrics(name)));
+    }
+
+    /**
+     * Adds an admissible lower bound to the f-cost.
+     *
+     * @param name the name of the lower bound in the metrics
+     * @param lowerBound the lower bound
+     */
+    public void addLowerBound(String name, LowerBound lowerBound) {
+        this.lowerBounds.add(new ProfiledLowerBound(lowerBound, metrics.addRuleMetrics(name)));
+    }
+
+    /**
+     * Enables or disables one of the admissible lower bounds of the f-cost. The idle time, bottom level and
+     * communication bounds are enabled by default. The data ready time bound is never above the communication bound,
+     * and the processor free time bound rarely prunes enough to pay for its evaluation, so both are disabled by
+     * default. Disabling a lower bound makes the f-cost cheaper to evaluate, but usually opens more states.
+     *
+     * @param lowerBoundType the lower bound
+     * @param isEnabled if the lower bound is used in the f-cost
+     */
+    public void setLowerBound(LowerBoundType lowerBoundType, boolean isEnabled) {
+        this.lowerBounds.get(lowerBoundType.ordinal()).isEnabled = isEnabled;
+    }
+
+    /**
+     * Perform the A star scheduling. If the search is cancelled, the best state found so far is kept. The best state
+     * may be replaced by {@link #offerUpperBound} after a state was opened, so every polled state is checked against
+     * it again. As the opened states are polled in f-cost order, once a polled state can be pruned, so can every other
+     * opened state.
      */
     @Override
     public void schedule() {
-        this.openedStates.add(new StateModel(processors, numberOfNodes));
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            this.openedStates.add(getInitialState());
+        }
 
-        while (!this.openedStates.isEmpty()) {
+        while (!this.openedStates.isEmpty() && !isCancelled()) {
             StateModel state = this.openedStates.poll();
 
             setCurrentState(state);
 
+            if (canPruneCost(state.getStoredFCost())) {
+                break;
+            }
+
+            raiseLowerBound(state.getStoredFCost());
+
             if (state.areAllNodesScheduled()) {
-                bestState = state;
+                offerBestState(state);
 
                 break;
             }
 
-            expandStates(this.openedStates, state);
+            expandStates(this.openedStates::add, state);
         }
 
         setCurrentState(bestState);
 
         metrics.setBestState(bestState);
         metrics.setNumberOfClosedStates(closedStates.size());
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        releaseStates();
+    }
+
+    /**
+     * Records the start of the search, and tells the listeners the bounds that it starts from, that is, the greedy
+     * schedule and the lower bound of the graph, so a search that proves the greedy schedule optimal without expanding
+     * a state still reports both.
+     */
+    @Override
+    protected void startSearch() {
+        super.startSearch();
+
+        fireIncumbentImproved(bestState);
+        raiseLowerBound(getLowerBound());
+    }
+
+    /**
+     * Releases the opened and closed states once the search has been cancelled, as they are never polled again.
+     */
+    protected void releaseStates() {
+        if (isCancelled()) {
+            this.openedStates.clear();
+
+            closedStates.clear();
+        }
+    }
+
+    /**
+     * Returns the empty state that the search starts from, with the lower bound as its f-cost. In the
+     * allocation-ordering state space, it also has an empty allocation.
+     *
+     * @return the initial state
+     */
+    protected StateModel getInitialState() {
+        StateModel state = new StateModel(processors, numberOfNodes);
+
+        if (this.searchModelType == SearchModelType.ALLOCATION_ORDERING) {
+            state = new StateModel(state, new AllocationModel(numberOfNodes, processors));
+        }
+
+        state.setFCost(getFCost(state));
+
+        return state;
     }
 
     /**
@@ -64,44 +330,169 @@ public class AStarScheduler extends Scheduler {
      * @param state the current state
      * @param node the current node
      * @param processor the processor which the node will be added to
+     * @param isFixedNodeOrder if the node was chosen by the fixed task ordering
+     * @return the f-cost of the deferred child, or infinity if the child was not deferred
      */
-    protected void expandState(PriorityQueue<StateModel> openedStates, StateModel state, NodeModel node, byte processor) {
-        StateModel nextState = pruneState(state, node, processor);
+    protected int expandState(Consumer<StateModel> openedStates, StateModel state, NodeModel node, byte processor, boolean isFixedNodeOrder) {
+        return openState(openedStates, state, getNextState(state, node, processor, isFixedNodeOrder));
+    }
 
+    /**
+     * Opens the next state of the current state, unless it was pruned. With partial expansion, a child whose f-cost
+     * is above the current state's stored f-cost is deferred, and a child whose f-cost is below it was opened by an
+     * earlier expansion. In the exhaustive list scheduling state space, a state that was already opened is not opened
+     * again.
+     *
+     * @param openedStates the queue of opened states
+     * @param state the current state
+     * @param nextState the next state, or null if it was pruned
+     * @return the f-cost of the deferred child, or infinity if the child was not deferred
+     */
+    private int openState(Consumer<StateModel> openedStates, StateModel state, StateModel nextState) {
         if (nextState == null) {
-            return;
+            return INFINITY_32;
+        }
+
+        if (this.isPartialExpansion) {
+            if (nextState.getFCost() > state.getStoredFCost()) {
+                return nextState.getFCost();
+            }
+
+            if (nextState.getFCost() < state.getStoredFCost()) {
+                return INFINITY_32;
+            }
         }
 
-        openedStates.add(nextState);
+        if (isDuplicateState(nextState)) {
+            return INFINITY_32;
+        }
+
+        openedStates.accept(nextState);
 
         metrics.incrementNumberOfOpenedStates();
+
+        return INFINITY_32;
     }
 
     /**
-     * Prunes the current state if possible.
+     * Returns the next state with its f-cost if it cannot be pruned. The next state is created lazily on top of the
+     * current state, so a pruned state never copies the current state's arrays. The pruning rules are evaluated before
+     * the f-cost, as they are cheaper. The f-cost is never below the current
+     * state's f-cost, as every schedule that completes the next state also completes the current state. Schedule
+     * equivalence is not checked for a node chosen by the fixed task ordering, because the equivalent schedule it
+     * points to may have been excluded by the fixed task ordering itself.
      *
      * @param state the current state
      * @param node the current node
      * @param processor the processor
-     * @return the next state if the current state was not pruned
+     * @param isFixedNodeOrder if the node was chosen by the fixed task ordering
+     * @return the next state if it cannot be pruned
      */
-    protected StateModel pruneState(StateModel state, NodeModel node, byte processor) {
-        if (isFirstAvailableNode(state, node)) {
+    protected StateModel getNextState(StateModel state, NodeModel node, byte processor, boolean isFixedNodeOrder) {
+        int earliestStartTime = getEarliestStartTime(state, node, processor);
+
+        StateModel nextState = new StateModel(state, node, processor, earliestStartTime);
+        nextState.setParentMaximumBottomLevelPathLength(state.getMaximumBottomLevelPathLength());
+
+        for (ProfiledPruningRule pruningRule : this.pruningRules) {
+            if (pruningRule.canPrune(state, nextState, isFixedNodeOrder)) {
+                return null;
+            }
+        }
+
+        int fCost = Math.max(getFCost(nextState), state.getFCost());
+
+        if (isCostBounded(fCost)) {
             return null;
         }
 
-        StateModel nextState = state.clone();
+        nextState.setFCost(fCost);
 
-        int earliestStartTime = getEarliestStartTime(state, node, processor);
+        return nextState;
+    }
 
-        nextState.addNode(node, processor, earliestStartTime);
-        nextState.setParentMaximumBottomLevelPathLength(state.getMaximumBottomLevelPathLength());
+    /**
+     * Checks if a state whose schedules cannot finish before the given lower bound can be pruned, because none of them
+     * is shorter than the best state by more than the epsilon.
+     *
+     * @param lowerBound the lower bound on the finish time of the state's schedules
+     * @return if the state can be pruned
+     */
+    protected boolean canPruneCost(int lowerBound) {
+        return lowerBound * this.epsilonFactor >= this.bestState.getMaximumFinishTime();
+    }
 
-        if (canPruneState(closedStates, nextState)) {
-            return null;
+    /**
+     * Raises the proven lower bound. With an epsilon, the pruned states may still lead to schedules that are shorter
+     * than the f-costs of the opened states, so the lower bound is capped at the one that the epsilon certifies for the
+     * best state. The cap does not depend on subclasses, which may certify less for a finished search.
+     *
+     * @param lowerBound the lower bound on the finish time of an optimal schedule
+     */
+    @Override
+    protected void raiseLowerBound(int lowerBound) {
+        if (this.epsilon > 0) {
+            lowerBound = Math.min(lowerBound, getEpsilonLowerBound(this.bestState.getMaximumFinishTime()));
         }
 
-        return (isStateEquivalent(nextState, node, processor)) ? null : nextState;
+        super.raiseLowerBound(lowerBound);
+    }
+
+    /**
+     * Returns the lower bound that a finished search has proven for its best state. Every pruned state's f-cost times
+     * (1 + epsilon) reached the finish time of the best state, so an optimal schedule is no shorter than the smallest
+     * integer that does.
+     *
+     * @param bestState the best state of the finished search
+     * @return the certified lower bound
+     */
+    @Override
+    protected int getCertifiedLowerBound(StateModel bestState) {
+        return getEpsilonLowerBound(bestState.getMaximumFinishTime());
+    }
+
+    /**
+     * Returns the smallest integer whose product with (1 + epsilon) reaches the upper bound. Without an epsilon, this is
+     * the upper bound itself.
+     *
+     * @param upperBound the finish time of the best state
+     * @return the lower bound certified by the epsilon
+     */
+    private int getEpsilonLowerBound(int upperBound) {
+        if (this.epsilon == 0) {
+            return upperBound;
+        }
+
+        int lowerBound = (int) Math.ceil(upperBound / this.epsilonFactor);
+
+        while (lowerBound > 0 && (lowerBound - 1) * this.epsilonFactor >= upperBound) {
+            lowerBound--;
+        }
+
+        while (lowerBound * this.epsilonFactor < upperBound) {
+            lowerBound++;
+        }
+
+        return lowerBound;
+    }
+
+    /**
+     * Checks if a state with the given f-cost can be pruned, because it cannot lead to a schedule that is shorter than
+     * the best state by more than the epsilon.
+     *
+     * @param fCost the f-cost of the state
+     * @return if the state can be pruned
+     */
+    private boolean isCostBounded(int fCost) {
+        this.costBoundMetrics.addCall();
+
+        if (canPruneCost(fCost)) {
+            this.costBoundMetrics.addHit();
+
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -112,14 +503,14 @@ public class AStarScheduler extends Scheduler {
      * @return if the current node is the first available node
      */
     protected boolean isFirstAvailableNode(StateModel state, NodeModel node) {
-        List<NodeModel> equivalentNodeGroup = graph.getEquivalentNodeGroup(node.getGroupId());
+        short nodeId = node.getIndex();
 
-        for (NodeModel equivalentNode : equivalentNodeGroup) {
-            if (equivalentNode.equals(node)) {
+        for (short equivalentNodeId : compiledGraph.getEquivalentNodeGroup(compiledGraph.getGroupId(nodeId))) {
+            if (equivalentNodeId == nodeId) {
                 return false;
             }
 
-            if (!state.isNodeScheduled(equivalentNode)) {
+            if (!state.isNodeScheduled(equivalentNodeId)) {
                 return true;
             }
         }
@@ -128,72 +519,257 @@ public class AStarScheduler extends Scheduler {
     }
 
     /**
-     * Returns a feasible schedule based on the greedy algorithm in Oliver Sinnen's research paper.
+     * Returns the given schedule re-timed on the current graph. Each node keeps its processor, and the nodes are added
+     * in the order of their previous start times, each as early as possible.
      *
-     * @return a feasible schedule
+     * @param previousState the previous schedule
+     * @param previousNodes the nodes of the previous graph in the node index order of the previous schedule
+     * @return the re-timed schedule, or null if the previous order violates a new edge
      */
-    protected StateModel getValidSchedule() {
-        StateModel state = new StateModel(processors, numberOfNodes);
+    protected StateModel getRetimedSchedule(StateModel previousState, NodeModel[] previousNodes) {
+        List<Short> previousNodeIds = new ArrayList<>();
 
-        for (NodeModel node : nodes) {
-            int bestStartTime = INFINITY_32;
-            byte processorWithBestStartTime = (byte) -1;
+        for (short nodeId = 0; nodeId < numberOfNodes; nodeId++) {
+            previousNodeIds.add(nodeId);
+        }
 
-            for (byte processor = 0; processor < processors; processor++) {
-                int earliestStartTime = getEarliestStartTime(state, node, processor);
+        previousNodeIds.sort(Comparator.comparingInt(previousState::getNodeStartTime));
 
-                if (earliestStartTime < bestStartTime) {
-                    bestStartTime = earliestStartTime;
-                    processorWithBestStartTime = processor;
-                }
+        StateModel state = new StateModel(processors, numberOfNodes);
+
+        for (short previousNodeId : previousNodeIds) {
+            NodeModel node = graph.getNode(previousNodes[previousNodeId].getId());
+            byte processor = previousState.getNodeProcessor(previousNodeId);
+
+            if (!arePredecessorsScheduled(state, node)) {
+                return null;
             }
 
-            state.addNode(node, processorWithBestStartTime, bestStartTime);
+            state.addNode(node, processor, getEarliestStartTime(state, node, processor));
         }
 
         return state;
     }
 
     /**
-     * Expand the possible states. Fixed task ordering ensures that redundant states are pruned.
+     * Checks if the next state was already opened, and adds it to the closed states otherwise. The allocation-ordering
+     * state space has no duplicate states, so it keeps no closed states.
+     *
+     * @param nextState the next state
+     * @return if the next state was already opened
+     */
+    protected boolean isDuplicateState(StateModel nextState) {
+        return this.searchModelType == SearchModelType.EXHAUSTIVE_LIST_SCHEDULING && !closedStates.add(nextState);
+    }
+
+    /**
+     * Expand the possible states. With partial expansion, the current state is re-inserted with the f-cost of its
+     * best deferred child. Once the search is cancelled, no state is expanded.
      *
      * @param openedStates the queue of opened states
      * @param state the current state
      */
-    protected void expandStates(PriorityQueue<StateModel> openedStates, StateModel state) {
+    protected void expandStates(Consumer<StateModel> openedStates, StateModel state) {
+        if (isCancelled()) {
+            return;
+        }
+
+        int nextFCost;
+
+        if (this.searchModelType == SearchModelType.ALLOCATION_ORDERING) {
+            nextFCost = expandAllocationOrderingStates(openedStates, state);
+        } else {
+            nextFCost = expandListSchedulingStates(openedStates, state);
+        }
+
+        if (nextFCost != INFINITY_32) {
+            state.setStoredFCost(nextFCost);
+
+            openedStates.accept(state);
+        }
+    }
+
+    /**
+     * Expand the possible states in the exhaustive list scheduling state space. Fixed task ordering ensures that
+     * redundant states are pruned.
+     *
+     * @param openedStates the queue of opened states
+     * @param state the current state
+     * @return the f-cost of the best deferred child, or infinity if no child was deferred
+     */
+    private int expandListSchedulingStates(Consumer<StateModel> openedStates, StateModel state) {
         List<NodeModel> availableNodes = getAvailableNodes(state);
 
         NodeModel fixedNode = getFixedNodeOrder(state, availableNodes);
 
+        int nextFCost = INFINITY_32;
+
         if (fixedNode != null) {
             for (byte processor = 0; processor < processors; processor++) {
-                expandState(openedStates, state, fixedNode, processor);
+                nextFCost = Math.min(nextFCost, expandState(openedStates, state, fixedNode, processor, true));
             }
         } else {
             for (NodeModel node : availableNodes) {
                 for (byte processor = 0; processor < processors; processor++) {
-                    expandState(openedStates, state, node, processor);
+                    nextFCost = Math.min(nextFCost, expandState(openedStates, state, node, processor, false));
                 }
             }
         }
+
+        return nextFCost;
     }
 
     /**
-     * Checks whether a state can be pruned or not
+     * Expand the possible states in the allocation-ordering state space. While the allocation is incomplete, the next
+     * node is allocated to every used processor and to the first unused processor. Once it is complete, an available
+     * node is added to its processor, as long as the start times and processors of the added nodes stay in
+     * lexicographic order, so every schedule is only reached in the order of its start times. This assumes that the
+     * node weights are positive.
      *
+     * @param openedStates the queue of opened states
      * @param state the current state
-     * @return if a state can be pruned
+     * @return the f-cost of the best deferred child, or infinity if no child was deferred
      */
-    protected boolean canPruneState(Set<StateModel> closedStates, StateModel state) {
-        if (!closedStates.add(state)) {
-            return true;
+    private int expandAllocationOrderingStates(Consumer<StateModel> openedStates, StateModel state) {
+        AllocationModel allocation = state.getAllocation();
+
+        int nextFCost = INFINITY_32;
+
+        if (!allocation.isComplete()) {
+            int numberOfProcessors = Math.min(processors, allocation.getNumberOfUsedProcessors() + 1);
+
+            for (byte processor = 0; processor < numberOfProcessors; processor++) {
+                StateModel nextState = new StateModel(state, new AllocationModel(allocation, processor, compiledGraph));
+
+                nextFCost = Math.min(nextFCost, openState(openedStates, state, getNextAllocationOrderingState(state, nextState)));
+            }
+
+            return nextFCost;
+        }
+
+        for (NodeModel node : getAvailableNodes(state)) {
+            StateModel nextState = getNextOrderingState(state, node);
+
+            if (nextState != null) {
+                nextFCost = Math.min(nextFCost, openState(openedStates, state, getNextAllocationOrderingState(state, nextState)));
+            }
+        }
+
+        return nextFCost;
+    }
+
+    /**
+     * Returns the next state that adds a node to its allocated processor, unless it breaks the order of the start
+     * times, or an equivalent node with a smaller id on the same processor is not scheduled yet.
+     *
+     * @param state the current state
+     * @param node the node to add
+     * @return the next state, or null if the node cannot be added next
+     */
+    private StateModel getNextOrderingState(StateModel state, NodeModel node) {
+        short nodeId = node.getIndex();
+        byte processor = state.getAllocation().getNodeProcessor(nodeId);
+
+        for (short equivalentNodeId : compiledGraph.getEquivalentNodeGroup(compiledGraph.getGroupId(nodeId))) {
+            if (equivalentNodeId == nodeId) {
+                break;
+            }
+
+            if (!state.isNodeScheduled(equivalentNodeId) && state.getAllocation().getNodeProcessor(equivalentNodeId) == processor) {
+                return null;
+            }
+        }
+
+        int earliestStartTime = getEarliestStartTime(state, node, processor);
+
+        if (!state.isEmpty()) {
+            short lastNodeId = state.getLastNode();
+            int lastStartTime = state.getNodeStartTime(lastNodeId);
+
+            if (earliestStartTime < lastStartTime || (earliestStartTime == lastStartTime && processor < state.getNodeProcessor(lastNodeId))) {
+                return null;
+            }
+        }
+
+        StateModel nextState = new StateModel(state, node, processor, earliestStartTime);
+        nextState.setParentMaximumBottomLevelPathLength(state.getMaximumBottomLevelPathLength());
+
+        return nextState;
+    }
+
+    /**
+     * Returns the next state of the allocation-ordering state space with its f-cost, unless it can be pruned by the
+     * best state.
+     *
+     * @param state the current state
+     * @param nextState the next state
+     * @return the next state if it cannot be pruned
+     */
+    private StateModel getNextAllocationOrderingState(StateModel state, StateModel nextState) {
+        int fCost = Math.max(getAllocationOrderingFCost(nextState), state.getFCost());
+
+        if (isCostBounded(fCost)) {
+            return null;
+        }
+
+        nextState.setFCost(fCost);
+
+        return nextState;
+    }
+
+    /**
+     * Returns the f-cost of a state in the allocation-ordering state space. Every allocation is bounded by its most
+     * loaded processor and its longest path. Once the allocation is complete, each processor must still run its
+     * remaining nodes, and each available node must still run its bottom level path in the allocation.
+     *
+     * @param state the current state
+     * @return the f-cost of the state
+     */
+    protected int getAllocationOrderingFCost(StateModel state) {
+        AllocationModel allocation = state.getAllocation();
+
+        int fCost = Math.max(getLowerBound(), Math.max(allocation.getMaximumProcessorWeight(), allocation.getMaximumPathLength()));
+
+        if (!allocation.isComplete()) {
+            return fCost;
         }
 
-        return state.getMaximumFinishTime() >= this.bestState.getMaximumFinishTime();
+        if (!state.isEmpty()) {
+            short lastNodeId = state.getLastNode();
+
+            fCost = Math.max(fCost, state.getNodeStartTime(lastNodeId) + allocation.getBottomLevelPathLength(lastNodeId));
+        }
+
+        for (byte processor = 0; processor < processors; processor++) {
+            int remainingWeight = 0;
+
+            for (short nodeId = 0; nodeId < numberOfNodes; nodeId++) {
+                if (!state.isNodeScheduled(nodeId) && allocation.getNodeProcessor(nodeId) == processor) {
+                    remainingWeight += compiledGraph.getWeight(nodeId);
+                }
+            }
+
+            fCost = Math.max(fCost, state.getFinishTime(processor) + remainingWeight);
+        }
+
+        for (NodeModel node : nodes) {
+            short nodeId = node.getIndex();
+
+            if (!state.isNodeScheduled(nodeId) && arePredecessorsScheduled(state, node)) {
+                int earliestStartTime = getEarliestStartTime(state, node, allocation.getNodeProcessor(nodeId));
+
+                fCost = Math.max(fCost, earliestStartTime + allocation.getBottomLevelPathLength(nodeId));
+            }
+        }
+
+        return fCost;
     }
 
     /**
-     * Checks if the current state is equivalent to any other state.
+     * Checks if the current state is equivalent to any other state. The node that was just added is moved forward on
+     * its processor past every node with a larger id, and the state is equivalent if the re-timed processor still
+     * finishes no later and no other node is delayed. The re-timing only uses the thread's scratch buffers, so the
+     * check does not allocate.
      *
      * @param state the current state
      * @param node the current node
@@ -201,59 +777,67 @@ public class AStarScheduler extends Scheduler {
      * @return if the current state is equivalent to any other state
      */
     protected boolean isStateEquivalent(StateModel state, NodeModel node, byte processor) {
-        List<Byte> nodesOnSameProcessor = state.getNodesOnSameProcessorSortedOnStartTime(processor);
+        EquivalenceBuffer buffer = this.equivalenceBuffers.get();
 
-        int maximumFinishTime = state.getNodeStartTime(node) + node.getWeight();
+        short[] nodesOnSameProcessor = buffer.nodeIds;
+        int[] nodeStartTimes = buffer.nodeStartTimes;
+
+        int numberOfNodesOnSameProcessor = state.getNodesOnProcessor(processor, nodesOnSameProcessor);
+
+        for (int nodeIndex = 0; nodeIndex < numberOfNodesOnSameProcessor; nodeIndex++) {
+            short nodeId = nodesOnSameProcessor[nodeIndex];
+            nodeStartTimes[nodeId] = state.getNodeStartTime(nodeId);
+        }
 
-        int[] originalNodeStartTimes = state.getNodeStartTimes();
-        int[] copyNodeStartTimes = originalNodeStartTimes.clone();
+        int maximumFinishTime = state.getNodeStartTime(node) + node.getWeight();
 
-        for (int nodeIndex = nodesOnSameProcessor.size() - 1; nodeIndex > 0; nodeIndex--) {
-            byte nodeAId = nodesOnSameProcessor.get(nodeIndex);
-            byte nodeBId = nodesOnSameProcessor.get(nodeIndex - 1);
+        for (int nodeIndex = numberOfNodesOnSameProcessor - 1; nodeIndex > 0; nodeIndex--) {
+            short nodeAId = nodesOnSameProcessor[nodeIndex];
+            short nodeBId = nodesOnSameProcessor[nodeIndex - 1];
 
             if (nodeAId >= nodeBId) {
                 break;
             }
 
-            nodesOnSameProcessor.set(nodeIndex - 1, nodeAId);
-            nodesOnSameProcessor.set(nodeIndex, nodeBId);
+            nodesOnSameProcessor[nodeIndex - 1] = nodeAId;
+            nodesOnSameProcessor[nodeIndex] = nodeBId;
 
             int startTime = 0;
 
             if (nodeIndex > 1) {
-                byte nodeId = nodesOnSameProcessor.get(nodeIndex - 2);
-                startTime = state.getNodeStartTime(nodeId) + nodes[nodeId].getWeight();
+                short nodeId = nodesOnSameProcessor[nodeIndex - 2];
+                startTime = nodeStartTimes[nodeId] + compiledGraph.getWeight(nodeId);
             }
 
-            copyNodeStartTimes[nodeAId] = getEarliestStartTime(state, nodeAId, copyNodeStartTimes, processor, startTime);
+            nodeStartTimes[nodeAId] = getEarliestStartTime(state, nodeAId, nodeStartTimes, processor, startTime);
 
-            updateNodeStartTimes(state, nodeIndex, nodesOnSameProcessor, copyNodeStartTimes, processor);
+            updateNodeStartTimes(state, nodeIndex, nodesOnSameProcessor, numberOfNodesOnSameProcessor, nodeStartTimes, processor);
 
-            if (isValidFinishTime(state, nodeIndex,nodesOnSameProcessor, copyNodeStartTimes, maximumFinishTime, processor)) {
+            if (isValidFinishTime(state, nodeIndex, nodesOnSameProcessor, numberOfNodesOnSameProcessor, nodeStartTimes, maximumFinishTime, processor)) {
                 return true;
             }
-
         }
 
         return false;
     }
 
     /**
-     * Updates the node start times for the equivalent schedule pruning
+     * Updates the node start times for the equivalent schedule pruning. Each node starts when the previous node on
+     * the processor finishes, or later if its predecessors require it.
      *
      * @param state the current state
      * @param nodeIndex the current node index
-     * @param nodesOnSameProcessor the list of nodes on the same processor
+     * @param nodesOnSameProcessor the nodes on the same processor
+     * @param numberOfNodesOnSameProcessor the number of nodes on the same processor
      * @param nodeStartTimes the node start times
      * @param processor the processor
      */
-    private void updateNodeStartTimes(StateModel state, int nodeIndex, List<Byte> nodesOnSameProcessor, int[] nodeStartTimes, byte processor) {
-        for (int index = nodeIndex; index < nodesOnSameProcessor.size(); index++) {
-            byte nodeId = nodesOnSameProcessor.get(index);
-            byte previousNodeId = nodesOnSameProcessor.get(index - 1);
+    private void updateNodeStartTimes(StateModel state, int nodeIndex, short[] nodesOnSameProcessor, int numberOfNodesOnSameProcessor, int[] nodeStartTimes, byte processor) {
+        for (int index = nodeIndex; index < numberOfNodesOnSameProcessor; index++) {
+            short nodeId = nodesOnSameProcessor[index];
+            short previousNodeId = nodesOnSameProcessor[index - 1];
 
-            int currentStartTime = nodeStartTimes[previousNodeId] + nodes[nodeId].getWeight();
+            int currentStartTime = nodeStartTimes[previousNodeId] + compiledGraph.getWeight(previousNodeId);
 
             nodeStartTimes[nodeId] = getEarliestStartTime(state, nodeId, nodeStartTimes, processor, currentStartTime);
         }
@@ -264,18 +848,19 @@ public class AStarScheduler extends Scheduler {
      *
      * @param state the current state
      * @param nodeIndex the current node index
-     * @param nodesOnSameProcessor the list of nodes on the same processor
+     * @param nodesOnSameProcessor the nodes on the same processor
+     * @param numberOfNodesOnSameProcessor the number of nodes on the same processor
      * @param nodeStartTimes array of node start times
      * @param maximumFinishTime the maximum finish time
      * @param processor the processor
      * @return if the finish time is valid
      */
-    private boolean isValidFinishTime(StateModel state, int nodeIndex, List<Byte> nodesOnSameProcessor, int[] nodeStartTimes, int maximumFinishTime, byte processor) {
-        byte lastNodeId = nodesOnSameProcessor.get(nodesOnSameProcessor.size() - 1);
+    private boolean isValidFinishTime(StateModel state, int nodeIndex, short[] nodesOnSameProcessor, int numberOfNodesOnSameProcessor, int[] nodeStartTimes, int maximumFinishTime, byte processor) {
+        short lastNodeId = nodesOnSameProcessor[numberOfNodesOnSameProcessor - 1];
 
-        int lastNodeFinishTime = nodeStartTimes[lastNodeId] + nodes[lastNodeId].getWeight();
+        int lastNodeFinishTime = nodeStartTimes[lastNodeId] + compiledGraph.getWeight(lastNodeId);
 
-        return lastNodeFinishTime <= maximumFinishTime && isOutgoingCommunicationsOk(state, nodeIndex, nodesOnSameProcessor, nodeStartTimes, processor);
+        return lastNodeFinishTime <= maximumFinishTime && isOutgoingCommunicationsOk(state, nodeIndex, nodesOnSameProcessor, numberOfNodesOnSameProcessor, nodeStartTimes, processor);
     }
 
     /**
@@ -283,22 +868,21 @@ public class AStarScheduler extends Scheduler {
      *
      * @param state the current state
      * @param nodeIndex the current node index
-     * @param nodesOnSameProcessor the list of nodes on the same processor
+     * @param nodesOnSameProcessor the nodes on the same processor
+     * @param numberOfNodesOnSameProcessor the number of nodes on the same processor
      * @param nodeStartTimes array of node start times
      * @param processor the processor
      * @return if the outgoing communication is fine
      */
-    protected boolean isOutgoingCommunicationsOk(StateModel state, int nodeIndex, List<Byte> nodesOnSameProcessor, int[] nodeStartTimes, byte processor) {
-        for (int index = nodeIndex; index < nodesOnSameProcessor.size(); index++) {
-            byte nodeId = nodesOnSameProcessor.get(index);
-
-            NodeModel node = nodes[nodeId];
+    protected boolean isOutgoingCommunicationsOk(StateModel state, int nodeIndex, short[] nodesOnSameProcessor, int numberOfNodesOnSameProcessor, int[] nodeStartTimes, byte processor) {
+        for (int index = nodeIndex; index < numberOfNodesOnSameProcessor; index++) {
+            short nodeId = nodesOnSameProcessor[index];
 
             if (nodeStartTimes[nodeId] <= state.getNodeStartTime(nodeId)) {
                 continue;
             }
 
-            if (isSuccessorDelayed(state, node, nodeStartTimes, processor)) {
+            if (isSuccessorDelayed(state, nodeId, nodeStartTimes, processor)) {
                 return false;
             }
         }
@@ -307,29 +891,29 @@ public class AStarScheduler extends Scheduler {
     }
 
     /**
-     * Check if the successor node is delayed due to swapping
+     * Check if a successor node is delayed due to swapping. A scheduled successor on the same processor is re-timed
+     * with the processor, so only successors on other processors can be delayed by the later data arrival.
      *
      * @param state the current state
-     * @param node the current node
+     * @param nodeId the current node's id
      * @param nodeStartTimes array of node start times
      * @param processor the processor
      * @return if the successor node is delayed
      */
-    private boolean isSuccessorDelayed(StateModel state, NodeModel node, int[] nodeStartTimes, byte processor) {
-        for (NodeModel successor : node.getSuccessors()) {
-            int dataArrivalTime = getDataArrivalTime(node, successor, nodeStartTimes);
+    private boolean isSuccessorDelayed(StateModel state, short nodeId, int[] nodeStartTimes, byte processor) {
+        int finishTime = nodeStartTimes[nodeId] + compiledGraph.getWeight(nodeId);
 
-            if (state.isNodeScheduled(successor)) {
-                boolean isSuccessorStartTimeValid = (nodeStartTimes[successor.getByteId()] <= dataArrivalTime);
-                boolean isSuccessorScheduledOnSameProcessor = (state.getNodeProcessor(successor) != processor);
+        for (short successorId : compiledGraph.getSuccessorIds(nodeId)) {
+            int dataArrivalTime = finishTime + compiledGraph.getEdgeWeight(nodeId, successorId);
 
-                if (!(isSuccessorStartTimeValid || isSuccessorScheduledOnSameProcessor)) {
-                    return true;
-                }
-            } else {
-                if (!isUnscheduledNodeSwappable(node, successor, nodeStartTimes, dataArrivalTime, processor)) {
+            if (state.isNodeScheduled(successorId)) {
+                boolean isSuccessorOnOtherProcessor = (state.getNodeProcessor(successorId) != processor);
+
+                if (isSuccessorOnOtherProcessor && dataArrivalTime > state.getNodeStartTime(successorId)) {
                     return true;
                 }
+            } else if (!isUnscheduledNodeSwappable(state, nodeId, successorId, nodeStartTimes, dataArrivalTime, processor)) {
+                return true;
             }
         }
 
@@ -337,16 +921,18 @@ public class AStarScheduler extends Scheduler {
     }
 
     /**
-     * Checks whether a node that is not scheduled yet is swappable with its successor node.
+     * Checks whether a node that is not scheduled yet is swappable with its successor node, i.e., on every other
+     * processor another scheduled predecessor of the successor delivers its data no earlier.
      *
-     * @param node the current node
-     * @param successor the node's successor
+     * @param state the current state
+     * @param nodeId the current node's id
+     * @param successorId the node's successor's id
      * @param nodeStartTimes array of node start times
      * @param dataArrivalTime the data arrival time
      * @param processor the processor
      * @return if the unscheduled node is swappable
      */
-    private boolean isUnscheduledNodeSwappable(NodeModel node, NodeModel successor, int[] nodeStartTimes, int dataArrivalTime, byte processor) {
+    private boolean isUnscheduledNodeSwappable(StateModel state, short nodeId, short successorId, int[] nodeStartTimes, int dataArrivalTime, byte processor) {
         for (byte processorIndex = 0; processorIndex < processors; processorIndex++) {
             if (processorIndex == processor) {
                 continue;
@@ -354,12 +940,12 @@ public class AStarScheduler extends Scheduler {
 
             boolean canNodeBeScheduledLater = false;
 
-            for (NodeModel predecessor : successor.getPredecessors()) {
-                if (predecessor.getByteId() == node.getByteId()) {
+            for (short predecessorId : compiledGraph.getPredecessorIds(successorId)) {
+                if (predecessorId == nodeId || !state.isNodeScheduled(predecessorId)) {
                     continue;
                 }
 
-                if (getDataArrivalTime(predecessor, successor, nodeStartTimes) >= dataArrivalTime) {
+                if (getDataArrivalTime(state, predecessorId, successorId, nodeStartTimes, processor, processorIndex) >= dataArrivalTime) {
                     canNodeBeScheduledLater = true;
                     break;
                 }
@@ -374,21 +960,32 @@ public class AStarScheduler extends Scheduler {
     }
 
     /**
-     * Returns the data arrival time of a node.
+     * Returns the data arrival time of an edge on a processor.
      *
-     * @param nodeA the first node (source)
-     * @param nodeB the second node (destination)
-     * @param nodeStartTimes array of node start times
+     * @param state the current state
+     * @param sourceId the source node's id
+     * @param destinationId the destination node's id
+     * @param nodeStartTimes array of node start times, only read for the nodes on the re-timed processor
+     * @param processor the re-timed processor
+     * @param destinationProcessor the processor of the destination node
      * @return the data arrival time
      */
-    private int getDataArrivalTime(NodeModel nodeA, NodeModel nodeB, int[] nodeStartTimes) {
-        int finishTime = nodeStartTimes[nodeA.getByteId()] + nodeA.getWeight();
+    private int getDataArrivalTime(StateModel state, short sourceId, short destinationId, int[] nodeStartTimes, byte processor, byte destinationProcessor) {
+        byte sourceProcessor = state.getNodeProcessor(sourceId);
+
+        int startTime = (sourceProcessor == processor) ? nodeStartTimes[sourceId] : state.getNodeStartTime(sourceId);
+        int finishTime = startTime + compiledGraph.getWeight(sourceId);
 
-        return finishTime + getEdge(nodeA, nodeB).weight();
+        if (sourceProcessor == destinationProcessor) {
+            return finishTime;
+        }
+
+        return finishTime + compiledGraph.getEdgeWeight(sourceId, destinationId);
     }
 
     /**
-     * Returns the f-cost of the current state and is used in the A star.
+     * Returns the f-cost of the current state and is used in the A star. The f-cost is the maximum of the enabled
+     * lower bounds.
      *
      * @param state the current state
      * @return the f-cost of the current state
@@ -398,27 +995,44 @@ public class AStarScheduler extends Scheduler {
             return getLowerBound();
         }
 
-        int idleTime = getIdleTime(state);
-        int maximumDataReadyTime = getMaximumDataReadyTime(state);
-        int maximumBottomLevelPathLength = getMaximumBottomLevelPathLength(state);
+        state.setMaximumBottomLevelPathLength(getMaximumBottomLevelPathLength(state));
+
+        int fCost = state.getMaximumFinishTime();
+
+        ProfiledLowerBound largestLowerBound = null;
+
+        for (ProfiledLowerBound lowerBound : this.lowerBounds) {
+            if (!lowerBound.isEnabled) {
+                continue;
+            }
 
-        int fCost = Math.max(idleTime, Math.max(maximumBottomLevelPathLength, maximumDataReadyTime));
+            int value = lowerBound.getLowerBound(state);
+
+            if (value > fCost) {
+                fCost = value;
+                largestLowerBound = lowerBound;
+            }
+        }
+
+        if (largestLowerBound != null) {
+            largestLowerBound.metrics.addHit();
+        }
 
         state.setFCost(fCost);
-        state.setMaximumBottomLevelPathLength(maximumBottomLevelPathLength);
 
         return fCost;
     }
 
     /**
-     * Returns the lower bound of graph, which is the load balanced time.
+     * Returns the lower bound of graph, which is the load balanced time. For incremental re-scheduling, it is at least
+     * the lower bound carried over from the previous graph.
      *
      * @return the lower bound value
      */
-    private int getLowerBound() {
-        double loadBalancedTime = (double) graph.getTotalNodeWeight() / processors;
+    protected int getLowerBound() {
+        double loadBalancedTime = (double) compiledGraph.getTotalNodeWeight() / processors;
 
-        return (int) Math.max(Math.ceil(loadBalancedTime), getCriticalPathLength());
+        return Math.max(this.previousLowerBound, (int) Math.max(Math.ceil(loadBalancedTime), getCriticalPathLength()));
     }
 
     /**
@@ -428,7 +1042,7 @@ public class AStarScheduler extends Scheduler {
      * @return the idle time
      */
     protected int getIdleTime(StateModel state) {
-        double totalWeight = (double) graph.getTotalNodeWeight() + state.getTotalIdleTime();
+        double totalWeight = (double) compiledGraph.getTotalNodeWeight() + state.getTotalIdleTime();
 
         return (int) Math.ceil(totalWeight / processors);
     }
@@ -444,7 +1058,7 @@ public class AStarScheduler extends Scheduler {
             return 0;
         }
 
-        byte lastNodeId = state.getLastNode();
+        short lastNodeId = state.getLastNode();
 
         int estimatedFinishTime = state.getNodeStartTime(lastNodeId) + bottomLevelPathLengths[lastNodeId];
         int parentBottomLevelPathLength = state.getParentMaximumBottomLevelPathLength();
@@ -462,7 +1076,7 @@ public class AStarScheduler extends Scheduler {
         int maximumDataReadyTime = 0;
 
         for (NodeModel node : getAvailableNodes(state)) {
-            int cost = getMinimumDataReadyTime(state, node) + bottomLevelPathLengths[node.getByteId()];
+            int cost = getMinimumDataReadyTime(state, node) + bottomLevelPathLengths[node.getIndex()];
             maximumDataReadyTime = Math.max(maximumDataReadyTime, cost);
         }
 
@@ -470,15 +1084,135 @@ public class AStarScheduler extends Scheduler {
     }
 
     /**
-     * Returns a single node based on the fixed task ordering conditions
+     * Returns the earliest time by which the remaining nodes can be run, if each processor is only free from its
+     * finish time, and no remaining node can start before the smallest data ready time of the available nodes. The
+     * remaining weight is spread over the processors that are free first, until the next processor would only become
+     * free after the processors in use finish. Used for the h-cost.
+     *
+     * @param state the current state
+     * @return the processor free time
+     */
+    protected int getProcessorFreeTime(StateModel state) {
+        int remainingWeight = 0;
+        int minimumDataReadyTime = INFINITY_32;
+
+        for (NodeModel node : nodes) {
+            if (!state.isNodeScheduled(node)) {
+                remainingWeight += node.getWeight();
+
+                if (arePredecessorsScheduled(state, node)) {
+                    minimumDataReadyTime = Math.min(minimumDataReadyTime, getMinimumDataReadyTime(state, node));
+                }
+            }
+        }
+
+        if (remainingWeight == 0) {
+            return state.getMaximumFinishTime();
+        }
+
+        int[] freeTimes = this.lowerBoundBuffers.get();
+
+        for (byte processor = 0; processor < processors; processor++) {
+            int freeTime = Math.max(state.getFinishTime(processor), minimumDataReadyTime);
+            int index = processor;
+
+            while (index > 0 && freeTimes[index - 1] > freeTime) {
+                freeTimes[index] = freeTimes[index - 1];
+                index--;
+            }
+
+            freeTimes[index] = freeTime;
+        }
+
+        long totalTime = remainingWeight;
+
+        for (int numberOfProcessors = 1; numberOfProcessors < processors; numberOfProcessors++) {
+            totalTime += freeTimes[numberOfProcessors - 1];
+
+            int processorFreeTime = (int) ((totalTime + numberOfProcessors - 1) / numberOfProcessors);
+
+            if (processorFreeTime <= freeTimes[numberOfProcessors]) {
+                return processorFreeTime;
+            }
+        }
+
+        totalTime += freeTimes[processors - 1];
+
+        return (int) ((totalTime + processors - 1) / processors);
+    }
+
+    /**
+     * Returns the maximum finish time of the bottom level paths of the remaining nodes, where each remaining node
+     * starts no earlier than the communication from its scheduled predecessors allows on its best processor. The
+     * remaining predecessors are propagated in topological order without communication, so every remaining node is
+     * bounded, not only the available nodes. Used for the h-cost.
+     *
+     * @param state the current state
+     * @return the maximum communication time
+     */
+    protected int getMaximumCommunicationTime(StateModel state) {
+        int[] startTimes = this.lowerBoundBuffers.get();
+
+        int maximumCommunicationTime = 0;
+
+        for (NodeModel node : nodes) {
+            short nodeId = node.getIndex();
+
+            if (state.isNodeScheduled(nodeId)) {
+                continue;
+            }
+
+            int readyTime = 0;
+
+            for (short predecessorId : compiledGraph.getPredecessorIds(nodeId)) {
+                if (!state.isNodeScheduled(predecessorId)) {
+                    readyTime = Math.max(readyTime, startTimes[predecessorId] + compiledGraph.getWeight(predecessorId));
+                }
+            }
+
+            int startTime = INFINITY_32;
+
+            for (byte processor = 0; processor < processors; processor++) {
+                int earliestStartTime = Math.max(readyTime, state.getFinishTime(processor));
+
+                for (short predecessorId : compiledGraph.getPredecessorIds(nodeId)) {
+                    if (!state.isNodeScheduled(predecessorId)) {
+                        continue;
+                    }
+
+                    int finishTime = state.getNodeStartTime(predecessorId) + compiledGraph.getWeight(predecessorId);
+
+                    if (state.getNodeProcessor(predecessorId) != processor) {
+                        finishTime += compiledGraph.getEdgeWeight(predecessorId, nodeId);
+                    }
+
+                    earliestStartTime = Math.max(earliestStartTime, finishTime);
+                }
+
+                startTime = Math.min(startTime, earliestStartTime);
+            }
+
+            startTimes[nodeId] = startTime;
+
+            maximumCommunicationTime = Math.max(maximumCommunicationTime, startTime + bottomLevelPathLengths[nodeId]);
+        }
+
+        return maximumCommunicationTime;
+    }
+
+    /**
+     * Returns a single node based on the fixed task ordering conditions. Every available node must have at most one
+     * predecessor and one successor, the successors must be the same node, and the predecessors must be scheduled on
+     * the same processor.
      *
      * @param state the current state
      * @param availableNodes the list of available nodes
      * @return a single node
      */
     protected NodeModel getFixedNodeOrder(StateModel state, List<NodeModel> availableNodes) {
-        Set<NodeModel> availableSuccessors = new HashSet<>();
-        Set<NodeModel> availablePredecessors = new HashSet<>();
+        NodeModel availableSuccessor = null;
+
+        byte predecessorProcessor = (byte) -1;
 
         for (NodeModel node : availableNodes) {
             if (node.getInDegree() > 1 || node.getOutDegree() > 1) {
@@ -486,31 +1220,29 @@ public class AStarScheduler extends Scheduler {
             }
 
             if (node.getInDegree() > 0) {
-                availablePredecessors.add(node.getPredecessor(0));
-            }
+                NodeModel predecessor = node.getPredecessor(0);
 
-            if (node.getOutDegree() > 0) {
-                availableSuccessors.add(node.getSuccessor(0));
-            }
-        }
-
-        if (availableSuccessors.size() > 1) {
-            return null;
-        }
+                if (!state.isNodeScheduled(predecessor)) {
+                    return null;
+                }
 
-        if (!availablePredecessors.isEmpty()) {
-            Set<Byte> predecessorProcessors = new HashSet<>();
+                byte processor = state.getNodeProcessor(predecessor);
 
-            for (NodeModel predecessor : availablePredecessors) {
-                if (!state.isNodeScheduled(predecessor)) {
+                if (predecessorProcessor != -1 && predecessorProcessor != processor) {
                     return null;
                 }
 
-                predecessorProcessors.add(state.getNodeProcessor(predecessor));
+                predecessorProcessor = processor;
             }
 
-            if (predecessorProcessors.size() > 1) {
-                return null;
+            if (node.getOutDegree() > 0) {
+                NodeModel successor = node.getSuccessor(0);
+
+                if (availableSuccessor != null && availableSuccessor != successor) {
+                    return null;
+                }
+
+                availableSuccessor = successor;
             }
         }
 
@@ -583,7 +1315,7 @@ public class AStarScheduler extends Scheduler {
             return 0;
         }
 
-        return getEdge(node, node.getSuccessor(0)).weight();
+        return getEdgeWeight(node, node.getSuccessor(0));
     }
 
     /**
@@ -610,7 +1342,7 @@ public class AStarScheduler extends Scheduler {
             return dataReadyTime;
         }
 
-        return dataReadyTime + getEdge(predecessor, node).weight();
+        return dataReadyTime + getEdgeWeight(predecessor, node);
     }
 
     /**
@@ -630,4 +1362,124 @@ public class AStarScheduler extends Scheduler {
 
         return minimumDataReadyTime;
     }
+
+    /**
+     * Scratch buffers for the schedule equivalence pruning. Each thread that expands states gets its own buffers, so
+     * the parallel schedulers can share the pruning without allocating.
+     */
+    private static final class EquivalenceBuffer {
+        private final short[] nodeIds;
+
+        private final int[] nodeStartTimes;
+
+        /**
+         * Constructor for the EquivalenceBuffer class
+         *
+         * @param numberOfNodes the number of nodes
+         */
+        private EquivalenceBuffer(short numberOfNodes) {
+            this.nodeIds = new short[numberOfNodes];
+            this.nodeStartTimes = new int[numberOfNodes];
+        }
+    }
+
+    /**
+     * A pruning rule together with its metrics. Every evaluation is counted, but only timed if rule timing is enabled,
+     * and every pruned state is a hit.
+     */
+    private final class ProfiledPruningRule {
+        private final PruningRule pruningRule;
+
+        private final RuleMetricsModel metrics;
+
+        /**
+         * Constructor for the ProfiledPruningRule class
+         *
+         * @param pruningRule the pruning rule
+         * @param metrics the metrics of the pruning rule
+         */
+        private ProfiledPruningRule(PruningRule pruningRule, RuleMetricsModel metrics) {
+            this.pruningRule = pruningRule;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Checks if the next state can be pruned, and records the evaluation in the metrics.
+         *
+         * @param state the current state
+         * @param nextState the next state
+         * @param isFixedNodeOrder if the node was chosen by the fixed task ordering
+         * @return if the next state can be pruned
+         */
+        private boolean canPrune(StateModel state, StateModel nextState, boolean isFixedNodeOrder) {
+            boolean isPruned;
+
+            if (isRuleTiming) {
+                long startTime = System.nanoTime();
+
+                isPruned = this.pruningRule.canPrune(state, nextState, isFixedNodeOrder);
+
+                this.metrics.addCall(System.nanoTime() - startTime);
+            } else {
+                isPruned = this.pruningRule.canPrune(state, nextState, isFixedNodeOrder);
+
+                this.metrics.addCall();
+            }
+
+            if (isPruned) {
+                this.metrics.addHit();
+            }
+
+            return isPruned;
+        }
+    }
+
+    /**
+     * A lower bound together with its metrics. Every evaluation is counted, but only timed if rule timing is enabled,
+     * and the lower bound is hit when it is the largest lower bound of a state.
+     */
+    private final class ProfiledLowerBound {
+        private final LowerBound lowerBound;
+
+        private final RuleMetricsModel metrics;
+
+        private boolean isEnabled;
+
+        /**
+         * Constructor for the ProfiledLowerBound class
+         *
+         * @param lowerBound the lower bound
+         * @param metrics the metrics of the lower bound
+         */
+        private ProfiledLowerBound(LowerBound lowerBound, RuleMetricsModel metrics) {
+            this.lowerBound = lowerBound;
+            this.metrics = metrics;
+
+            this.isEnabled = true;
+        }
+
+        /**
+         * Returns the lower bound of the state, and records the evaluation in the metrics.
+         *
+         * @param state the current state
+         * @return the lower bound
+         */
+        private int getLowerBound(StateModel state) {
+            int value;
+
+            if (isRuleTiming) {
+                long startTime = System.nanoTime();
+
+                value = this.lowerBound.getLowerBound(state);
+
+                this.metrics.addCall(System.nanoTime() - startTime);
+            } else {
+                value = this.lowerBound.getLowerBound(state);
+
+                this.metrics.addCall();
+            }
+
+            return value;
+        }
+    }
 }
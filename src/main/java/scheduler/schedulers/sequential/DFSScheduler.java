@@ -10,10 +10,9 @@ import scheduler.schedulers.Scheduler;
  * searches all branches in the tree and prunes branches when a better solution is found.
  */
 public class DFSScheduler extends Scheduler {
-    private int bestFinishTime;
-
     /**
-     * Constructor for the DFSScheduler class.
+     * Constructor for the DFSScheduler class. The greedy schedule is the first best state, so a cancelled search still
+     * has a schedule.
      *
      * @param graph represents the graph model.
      * @param processors represents the number of processors for scheduling.
@@ -21,30 +20,38 @@ public class DFSScheduler extends Scheduler {
     public DFSScheduler(GraphModel graph, byte processors) {
         super(graph, processors);
 
-        this.bestFinishTime = Integer.MAX_VALUE;
+        bestState = getValidSchedule();
     }
 
     public void schedule() {
+        startSearch();
+
         schedule(new StateModel(processors, this.numberOfNodes));
 
+        metrics.setBestState(bestState);
         metrics.setNumberOfClosedStates(closedStates.size());
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        if (isCancelled()) {
+            closedStates.clear();
+        }
     }
 
     /**
      * Method implements DFS Branch And Bound search algorithm. Recursively schedules each task (state).
-     * Branches are pruned if the makespan of the current time exceeds the best finish time.
+     * Branches are pruned if the makespan of the current time reaches the finish time of the best state. The search
+     * returns without expanding any state once it is cancelled.
      *
      * @param state represents the current state of the dfs scheduling algorithm.
      */
     private void schedule(StateModel state) {
-        if (state.areAllNodesScheduled()) {
-            int maximumFinishTime = state.getMaximumFinishTime();
-
-            if (this.bestFinishTime > maximumFinishTime) {
-                this.bestFinishTime = maximumFinishTime;
+        if (isCancelled()) {
+            return;
+        }
 
-                metrics.setBestState(state);
-            }
+        if (state.areAllNodesScheduled()) {
+            offerBestState(state);
 
             return;
         }
@@ -57,13 +64,11 @@ public class DFSScheduler extends Scheduler {
 
         for (NodeModel node : getAvailableNodes(state)) {
             for (byte processor = 0; processor < processors; processor++) {
-                StateModel nextState = state.clone();
-
                 int earliestStartTime = getEarliestStartTime(state, node, processor);
 
-                nextState.addNode(node, processor, earliestStartTime);
+                StateModel nextState = new StateModel(state, node, processor, earliestStartTime);
 
-                if (nextState.getMaximumFinishTime() >= this.bestFinishTime) {
+                if (nextState.getMaximumFinishTime() >= bestState.getMaximumFinishTime()) {
                     continue;
                 }
 
@@ -0,0 +1,534 @@
+package scheduler.schedulers.sequential;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+
+/**
+ * The ExternalMemoryAStarScheduler class finds an optimal schedule like the A star, but keeps its opened and closed
+ * states in files instead of the heap. The opened states are split into buckets by their f-cost and their number of
+ * scheduled nodes, and the buckets are expanded in the order of their f-cost and then their depth. A child never has a
+ * smaller f-cost than its parent, and is one level deeper, so it always lands in a bucket that is expanded later.
+ * Duplicate states are detected when a bucket is expanded, by sorting the bucket and merging it with the sorted closed
+ * states of the same depth, as a state can only be reached at the depth of its number of scheduled nodes. Only the
+ * sorted runs of a bucket and the write buffers of the buckets are kept in memory. The write buffers share a budget:
+ * once the buffered states exceed it, the largest buffers are appended to their files until half of the budget is left,
+ * so the buffers never hold more than the budget plus one state, however many buckets are opened.
+ */
+public class ExternalMemoryAStarScheduler extends AStarScheduler {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+
+    private final int stateSize;
+
+    private final int runSize;
+
+    private final int bufferBudget;
+
+    private final TreeMap<Long, ByteArrayOutputStream> buckets;
+
+    private final ByteBuffer stateBuffer;
+
+    private Path searchDirectory;
+
+    private long numberOfBufferedBytes;
+
+    private int numberOfClosedStates;
+
+    /**
+     * The ExternalMemoryAStarScheduler constructor
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     * @param directory the directory that the files of the search are created in
+     * @param runSize the number of states that are sorted in memory at once
+     * @param bufferBudget the number of bytes that the write buffers of all buckets may hold at once
+     */
+    public ExternalMemoryAStarScheduler(GraphModel graph, byte processors, Path directory, int runSize, int bufferBudget) {
+        super(graph, processors);
+
+        this.directory = directory;
+
+        this.stateSize = StateModel.getEncodedSize(numberOfNodes);
+
+        this.runSize = runSize;
+
+        this.bufferBudget = bufferBudget;
+
+        this.buckets = new TreeMap<>();
+
+        this.stateBuffer = ByteBuffer.allocate(this.stateSize);
+    }
+
+    /**
+     * Partial expansion is not supported, as a re-inserted state would be detected as a duplicate of itself.
+     *
+     * @param isPartialExpansion if the A star uses partial expansion
+     */
+    @Override
+    public void setPartialExpansion(boolean isPartialExpansion) {
+        if (isPartialExpansion) {
+            throw new UnsupportedOperationException("The external memory search does not use partial expansion");
+        }
+    }
+
+    /**
+     * Only the exhaustive list scheduling state space is supported, as the encoded states have no allocation.
+     *
+     * @param searchModelType the state space model of the search
+     */
+    @Override
+    public void setSearchModelType(SearchModelType searchModelType) {
+        if (searchModelType != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING) {
+            throw new UnsupportedOperationException("The external memory search only uses exhaustive list scheduling");
+        }
+    }
+
+    /**
+     * Perform the external memory A star scheduling. The files of the search are deleted afterwards.
+     */
+    @Override
+    public void schedule() {
+        try {
+            this.searchDirectory = Files.createTempDirectory(this.directory, "search");
+
+            try {
+                search();
+            } finally {
+                deleteSearchDirectory();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        setCurrentState(bestState);
+
+        this.numberOfBufferedBytes = 0;
+
+        metrics.setBestState(bestState);
+        metrics.setNumberOfClosedStates(this.numberOfClosedStates);
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+
+        this.buckets.clear();
+    }
+
+    /**
+     * Expands the buckets in the order of their f-cost and depth, until a complete state is expanded or no bucket is
+     * left. If no bucket is left, the greedy schedule is optimal. The search stops early if it is cancelled.
+     *
+     * @throws IOException if a file of the search cannot be read or written
+     */
+    private void search() throws IOException {
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            writeState(getInitialState());
+        }
+
+        while (!this.buckets.isEmpty() && !isCancelled()) {
+            long bucketId = this.buckets.firstKey();
+
+            raiseLowerBound((int) (bucketId >>> 16));
+
+            flushBucket(bucketId);
+            this.buckets.remove(bucketId);
+
+            if (expandBucket(bucketId)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the bucket of an f-cost and depth. The ids are ordered by f-cost first and depth second.
+     *
+     * @param fCost the f-cost
+     * @param depth the number of scheduled nodes
+     * @return the bucket id
+     */
+    private static long getBucketId(int fCost, int depth) {
+        return ((long) fCost << 16) | depth;
+    }
+
+    /**
+     * Returns the file of a bucket.
+     *
+     * @param bucketId the bucket id
+     * @return the file of the bucket
+     */
+    private Path getBucketFile(long bucketId) {
+        return this.searchDirectory.resolve("bucket-" + (bucketId >>> 16) + "-" + (bucketId & 0xFFFF) + ".bin");
+    }
+
+    /**
+     * Returns the file of the sorted closed states of a depth.
+     *
+     * @param depth the number of scheduled nodes
+     * @return the file of the closed states
+     */
+    private Path getClosedFile(int depth) {
+        return this.searchDirectory.resolve("closed-" + depth + ".bin");
+    }
+
+    /**
+     * Writes an opened state to the buffer of its bucket. The buffer is appended to the bucket's file once it is full,
+     * and the largest buffers are appended to their files once all buffers together exceed the buffer budget.
+     *
+     * @param state the opened state
+     */
+    private void writeState(StateModel state) {
+        long bucketId = getBucketId(state.getFCost(), state.getNumberOfScheduledNodes());
+
+        ByteArrayOutputStream bucket = this.buckets.computeIfAbsent(bucketId, id -> new ByteArrayOutputStream());
+
+        this.stateBuffer.clear();
+        state.encode(this.stateBuffer);
+        bucket.write(this.stateBuffer.array(), 0, this.stateSize);
+
+        this.numberOfBufferedBytes += this.stateSize;
+
+        try {
+            if (bucket.size() >= BUFFER_SIZE) {
+                flushBucket(bucketId);
+            }
+
+            if (this.numberOfBufferedBytes > this.bufferBudget) {
+                flushLargestBuckets();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Appends the largest buffers to their files, until the buffers hold at most half of the buffer budget. Flushing
+     * down to half of the budget keeps the buffers from being flushed again on every following write.
+     *
+     * @throws IOException if a file cannot be written
+     */
+    private void flushLargestBuckets() throws IOException {
+        List<Map.Entry<Long, ByteArrayOutputStream>> buckets = new ArrayList<>(this.buckets.entrySet());
+
+        buckets.sort(Comparator.comparingInt((Map.Entry<Long, ByteArrayOutputStream> bucket) -> bucket.getValue().size()).reversed());
+
+        for (Map.Entry<Long, ByteArrayOutputStream> bucket : buckets) {
+            if (this.numberOfBufferedBytes <= this.bufferBudget / 2) {
+                return;
+            }
+
+            flushBucket(bucket.getKey());
+        }
+    }
+
+    /**
+     * Appends the buffer of a bucket to the bucket's file, and replaces the buffer with an empty one. The buffer is
+     * replaced rather than reset, as a reset buffer would keep its capacity.
+     *
+     * @param bucketId the bucket id
+     * @throws IOException if the file cannot be written
+     */
+    private void flushBucket(long bucketId) throws IOException {
+        ByteArrayOutputStream bucket = this.buckets.get(bucketId);
+
+        if (bucket.size() == 0) {
+            return;
+        }
+
+        try (OutputStream outputStream = new FileOutputStream(getBucketFile(bucketId).toFile(), true)) {
+            bucket.writeTo(outputStream);
+        }
+
+        this.numberOfBufferedBytes -= bucket.size();
+
+        this.buckets.put(bucketId, new ByteArrayOutputStream());
+    }
+
+    /**
+     * Expands every state of a bucket that is not a duplicate of a closed state. The bucket is sorted into runs, the
+     * runs are merged without duplicates, and the result is merged with the closed states of the same depth, which
+     * are rewritten to include the expanded states.
+     *
+     * @param bucketId the bucket id
+     * @return if a complete state was expanded
+     * @throws IOException if a file of the search cannot be read or written
+     */
+    private boolean expandBucket(long bucketId) throws IOException {
+        int depth = (int) (bucketId & 0xFFFF);
+
+        Path bucketFile = getBucketFile(bucketId);
+        Path closedFile = getClosedFile(depth);
+        Path nextClosedFile = this.searchDirectory.resolve("closed-" + depth + ".next");
+
+        List<Path> runFiles = sortRuns(bucketFile);
+
+        Files.delete(bucketFile);
+
+        List<StateReader> readers = new ArrayList<>();
+
+        try (DataOutputStream closedOutputStream = openOutputStream(nextClosedFile)) {
+            PriorityQueue<StateReader> runs = new PriorityQueue<>(this::compareStates);
+
+            for (Path runFile : runFiles) {
+                readers.add(new StateReader(runFile, this.stateSize));
+            }
+
+            StateReader closedStates = Files.exists(closedFile) ? new StateReader(closedFile, this.stateSize) : null;
+
+            if (closedStates != null) {
+                readers.add(closedStates);
+            }
+
+            for (StateReader reader : readers) {
+                if (reader != closedStates && reader.next()) {
+                    runs.add(reader);
+                }
+            }
+
+            boolean hasClosedState = (closedStates != null && closedStates.next());
+
+            byte[] previousState = null;
+
+            while (!runs.isEmpty()) {
+                StateReader run = runs.poll();
+                byte[] state = run.getState();
+
+                if (previousState == null || compareKeys(previousState, state) != 0) {
+                    while (hasClosedState && compareKeys(closedStates.getState(), state) < 0) {
+                        closedOutputStream.write(closedStates.getState());
+                        hasClosedState = closedStates.next();
+                    }
+
+                    if (!hasClosedState || compareKeys(closedStates.getState(), state) != 0) {
+                        closedOutputStream.write(state);
+
+                        if (expandState(state)) {
+                            return true;
+                        }
+                    }
+
+                    previousState = state.clone();
+                }
+
+                if (run.next()) {
+                    runs.add(run);
+                }
+            }
+
+            while (hasClosedState) {
+                closedOutputStream.write(closedStates.getState());
+                hasClosedState = closedStates.next();
+            }
+        } finally {
+            for (StateReader reader : readers) {
+                reader.close();
+            }
+
+            for (Path runFile : runFiles) {
+                Files.deleteIfExists(runFile);
+            }
+        }
+
+        Files.move(nextClosedFile, closedFile, StandardCopyOption.REPLACE_EXISTING);
+
+        return false;
+    }
+
+    /**
+     * Expands a single state, and writes its children to their buckets.
+     *
+     * @param encodedState the encoded state
+     * @return if the state is complete
+     */
+    private boolean expandState(byte[] encodedState) {
+        StateModel state = StateModel.decode(ByteBuffer.wrap(encodedState), nodes, processors);
+
+        setCurrentState(state);
+
+        this.numberOfClosedStates++;
+
+        if (state.areAllNodesScheduled()) {
+            bestState = state;
+
+            fireIncumbentImproved(state);
+
+            return true;
+        }
+
+        expandStates(this::writeState, state);
+
+        return false;
+    }
+
+    /**
+     * Duplicate states are detected when their bucket is expanded, so no closed states are kept in memory.
+     *
+     * @param nextState the next state
+     * @return false
+     */
+    @Override
+    protected boolean isDuplicateState(StateModel nextState) {
+        return false;
+    }
+
+    /**
+     * Sorts a bucket's file into runs of at most the run size, which are written to their own files.
+     *
+     * @param bucketFile the file of the bucket
+     * @return the files of the sorted runs
+     * @throws IOException if a file cannot be read or written
+     */
+    private List<Path> sortRuns(Path bucketFile) throws IOException {
+        List<Path> runFiles = new ArrayList<>();
+
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(bucketFile.toFile()), BUFFER_SIZE))) {
+            long numberOfStates = Files.size(bucketFile) / this.stateSize;
+
+            while (numberOfStates > 0) {
+                byte[][] run = new byte[(int) Math.min(this.runSize, numberOfStates)][];
+
+                for (int index = 0; index < run.length; index++) {
+                    run[index] = new byte[this.stateSize];
+                    inputStream.readFully(run[index]);
+                }
+
+                Arrays.sort(run, this::compareKeys);
+
+                Path runFile = this.searchDirectory.resolve("run-" + runFiles.size() + ".bin");
+
+                try (DataOutputStream outputStream = openOutputStream(runFile)) {
+                    for (byte[] state : run) {
+                        outputStream.write(state);
+                    }
+                }
+
+                runFiles.add(runFile);
+
+                numberOfStates -= run.length;
+            }
+        }
+
+        return runFiles;
+    }
+
+    /**
+     * Opens a buffered output stream to a file.
+     *
+     * @param file the file
+     * @return the output stream
+     * @throws IOException if the file cannot be opened
+     */
+    private static DataOutputStream openOutputStream(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile()), BUFFER_SIZE));
+    }
+
+    /**
+     * Compares the encoded states of two readers by their keys.
+     *
+     * @param reader the first reader
+     * @param otherReader the second reader
+     * @return the comparison of the keys
+     */
+    private int compareStates(StateReader reader, StateReader otherReader) {
+        return compareKeys(reader.getState(), otherReader.getState());
+    }
+
+    /**
+     * Compares two encoded states by their keys, which are the bytes after the header. Equal states have equal keys.
+     *
+     * @param state the first encoded state
+     * @param otherState the second encoded state
+     * @return the comparison of the keys
+     */
+    private int compareKeys(byte[] state, byte[] otherState) {
+        return Arrays.compare(state, StateModel.ENCODED_HEADER_SIZE, this.stateSize, otherState, StateModel.ENCODED_HEADER_SIZE, this.stateSize);
+    }
+
+    /**
+     * Deletes the files of the search and their directory.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    private void deleteSearchDirectory() throws IOException {
+        this.buckets.clear();
+
+        try (Stream<Path> files = Files.list(this.searchDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(this.searchDirectory);
+    }
+
+    /**
+     * Reads the encoded states of a file one at a time.
+     */
+    private static final class StateReader implements Closeable {
+        private final DataInputStream inputStream;
+
+        private final byte[] state;
+
+        private long numberOfStates;
+
+        /**
+         * Constructor for the StateReader class
+         *
+         * @param file the file of encoded states
+         * @param stateSize the number of bytes of an encoded state
+         * @throws IOException if the file cannot be opened
+         */
+        private StateReader(Path file, int stateSize) throws IOException {
+            this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file.toFile()), BUFFER_SIZE));
+
+            this.state = new byte[stateSize];
+
+            this.numberOfStates = Files.size(file) / stateSize;
+        }
+
+        /**
+         * Reads the next state.
+         *
+         * @return if there was a next state
+         * @throws IOException if the file cannot be read
+         */
+        private boolean next() throws IOException {
+            if (this.numberOfStates == 0) {
+                return false;
+            }
+
+            this.inputStream.readFully(this.state);
+            this.numberOfStates--;
+
+            return true;
+        }
+
+        /**
+         * Returns the current state. The array is reused by the next read.
+         *
+         * @return the current encoded state
+         */
+        private byte[] getState() {
+            return this.state;
+        }
+
+        /**
+         * Closes the file.
+         *
+         * @throws IOException if the file cannot be closed
+         */
+        @Override
+        public void close() throws IOException {
+            this.inputStream.close();
+        }
+    }
+}
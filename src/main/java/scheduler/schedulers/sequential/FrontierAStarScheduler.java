@@ -0,0 +1,177 @@
+package scheduler.schedulers.sequential;
+
+import java.util.*;
+
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphModel;
+import scheduler.models.StateModel;
+
+import static scheduler.constants.Constants.INFINITY_32;
+
+/**
+ * The FrontierAStarScheduler class finds an optimal schedule with a breadth-first iterative deepening A star. A state
+ * can only be reached at the depth of its number of scheduled nodes, so the states are expanded one layer at a time,
+ * and only the current layer and the next layer are kept. Duplicate states are detected within the next layer, and a
+ * layer is discarded once it is expanded. Each iteration expands every state whose f-cost is within a threshold, and
+ * the next iteration raises the threshold to the smallest f-cost that was left out. The first iteration that reaches a
+ * complete state finds an optimal schedule, so the memory is proportional to the widest layer rather than the whole
+ * search, at the cost of expanding the shallow layers again in every iteration.
+ */
+public class FrontierAStarScheduler extends AStarScheduler {
+    protected int threshold;
+
+    private int nextThreshold;
+
+    private Set<StateModel> nextLayer;
+
+    /**
+     * The FrontierAStarScheduler constructor
+     *
+     * @param graph the input graph
+     * @param processors the number of processors
+     */
+    public FrontierAStarScheduler(GraphModel graph, byte processors) {
+        super(graph, processors);
+    }
+
+    /**
+     * Partial expansion is not supported, as a re-inserted state would be added to the layer of its children.
+     *
+     * @param isPartialExpansion if the A star uses partial expansion
+     */
+    @Override
+    public void setPartialExpansion(boolean isPartialExpansion) {
+        if (isPartialExpansion) {
+            throw new UnsupportedOperationException("The frontier search does not use partial expansion");
+        }
+    }
+
+    /**
+     * Only the exhaustive list scheduling state space is supported, as the layers are sets of states with equal
+     * scheduled nodes.
+     *
+     * @param searchModelType the state space model of the search
+     */
+    @Override
+    public void setSearchModelType(SearchModelType searchModelType) {
+        if (searchModelType != SearchModelType.EXHAUSTIVE_LIST_SCHEDULING) {
+            throw new UnsupportedOperationException("The frontier search only uses exhaustive list scheduling");
+        }
+    }
+
+    /**
+     * Perform the frontier search. The iterations stop once a complete state is reached, or once no state was left out
+     * by the threshold, in which case the greedy schedule is optimal. The number of closed states in the metrics is the
+     * size of the widest layer.
+     */
+    @Override
+    public void schedule() {
+        startSearch();
+
+        if (bestState.getMaximumFinishTime() > getLowerBound()) {
+            StateModel initialState = getInitialState();
+
+            this.threshold = initialState.getFCost();
+
+            while (this.threshold != INFINITY_32 && !isCancelled()) {
+                raiseLowerBound(this.threshold);
+
+                if (searchLayers(initialState)) {
+                    break;
+                }
+
+                this.threshold = this.nextThreshold;
+            }
+        }
+
+        setCurrentState(bestState);
+
+        metrics.setBestState(bestState);
+        metrics.setCancelled(isCancelled());
+        finishSearch();
+    }
+
+    /**
+     * Expands the layers from the initial state, leaving out every state whose f-cost is above the threshold. The
+     * layers are discarded if the search is cancelled.
+     *
+     * @param initialState the initial state
+     * @return if a complete state was reached
+     */
+    protected boolean searchLayers(StateModel initialState) {
+        this.nextThreshold = INFINITY_32;
+
+        Collection<StateModel> layer = List.of(initialState);
+
+        for (int depth = 0; depth < numberOfNodes; depth++) {
+            layer = expandLayer(layer);
+
+            if (layer.isEmpty() || isCancelled()) {
+                return false;
+            }
+
+            metrics.setNumberOfClosedStates(Math.max(metrics.getNumberOfClosedStates(), layer.size()));
+        }
+
+        StateModel completeState = null;
+
+        for (StateModel state : layer) {
+            if (completeState == null || state.getMaximumFinishTime() < completeState.getMaximumFinishTime()) {
+                completeState = state;
+            }
+        }
+
+        if (completeState == null) {
+            return false;
+        }
+
+        bestState = completeState;
+
+        fireIncumbentImproved(completeState);
+
+        return true;
+    }
+
+    /**
+     * Expands every state of a layer, and returns the next layer without duplicate states.
+     *
+     * @param layer the current layer
+     * @return the next layer
+     */
+    protected Collection<StateModel> expandLayer(Collection<StateModel> layer) {
+        this.nextLayer = new HashSet<>();
+
+        for (StateModel state : layer) {
+            setCurrentState(state);
+
+            expandStates(this::addNextState, state);
+        }
+
+        return this.nextLayer;
+    }
+
+    /**
+     * Adds a state to the next layer if its f-cost is within the threshold, and keeps the smallest f-cost above the
+     * threshold for the next iteration otherwise.
+     *
+     * @param state the next state
+     */
+    private void addNextState(StateModel state) {
+        if (state.getFCost() > this.threshold) {
+            this.nextThreshold = Math.min(this.nextThreshold, state.getFCost());
+        } else {
+            this.nextLayer.add(state);
+        }
+    }
+
+    /**
+     * Duplicate states are detected within the next layer, so no closed states are kept.
+     *
+     * @param nextState the next state
+     * @return false
+     */
+    @Override
+    protected boolean isDuplicateState(StateModel nextState) {
+        return false;
+    }
+}
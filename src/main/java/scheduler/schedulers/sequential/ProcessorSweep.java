@@ -0,0 +1,132 @@
+package scheduler.schedulers.sequential;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import scheduler.models.GraphModel;
+import scheduler.models.MetricsModel;
+import scheduler.models.PhaseProfileModel;
+import scheduler.models.StateModel;
+import scheduler.utilities.RunProfiler;
+
+/**
+ * The ProcessorSweep class finds optimal schedules of the same graph for several processor counts in one invocation.
+ * The processor counts are solved in ascending order. Every run shares the graph's analysis, and is seeded with the
+ * optimal schedule of the previous processor count, because the optimal make-span can never increase when processors
+ * are added. Every run is profiled as its own phase, like the phases of a single run.
+ */
+public class ProcessorSweep {
+    private final GraphModel graph;
+
+    private final byte[] processorCounts;
+
+    private final Map<Byte, MetricsModel> metrics;
+
+    private final RunProfiler runProfiler;
+
+    /**
+     * Constructor for the ProcessorSweep class.
+     *
+     * @param graph the input graph
+     * @param processorCounts the processor counts to schedule the graph on
+     */
+    public ProcessorSweep(GraphModel graph, byte[] processorCounts) {
+        this.graph = graph;
+
+        this.processorCounts = processorCounts.clone();
+
+        this.metrics = new TreeMap<>();
+
+        this.runProfiler = new RunProfiler();
+    }
+
+    /**
+     * Runs the A star scheduler for every processor count, in ascending order of processor counts.
+     */
+    public void run() {
+        StateModel previousBestState = null;
+
+        for (byte processors : getSortedProcessorCounts()) {
+            this.runProfiler.startPhase(processors + " processors");
+
+            AStarScheduler scheduler;
+
+            if (previousBestState == null) {
+                scheduler = new AStarScheduler(this.graph, processors);
+            } else {
+                scheduler = new AStarScheduler(this.graph, processors, previousBestState);
+            }
+
+            scheduler.schedule();
+
+            PhaseProfileModel runProfile = this.runProfiler.endPhase();
+
+            MetricsModel schedulerMetrics = scheduler.getMetrics();
+            schedulerMetrics.setElapsedTime(runProfile.getWallTime() / 1e9f);
+            schedulerMetrics.setCpuTime(runProfile.getProcessCpuTime() / 1e9f);
+            schedulerMetrics.setPeakHeapUsage(runProfile.getPeakHeapUsage());
+            schedulerMetrics.setPhaseProfiles(List.of(runProfile));
+
+            previousBestState = schedulerMetrics.getBestState();
+
+            this.metrics.put(processors, schedulerMetrics);
+        }
+    }
+
+    /**
+     * Returns the processor counts in ascending order without duplicates.
+     *
+     * @return the sorted processor counts
+     */
+    private SortedSet<Byte> getSortedProcessorCounts() {
+        SortedSet<Byte> sortedProcessorCounts = new TreeSet<>();
+
+        for (byte processors : this.processorCounts) {
+            sortedProcessorCounts.add(processors);
+        }
+
+        return sortedProcessorCounts;
+    }
+
+    /**
+     * Returns the optimal schedule found for the given processor count.
+     *
+     * @param processors the processor count
+     * @return the optimal schedule, or null if the processor count was not part of the sweep
+     */
+    public StateModel getBestState(byte processors) {
+        MetricsModel schedulerMetrics = this.metrics.get(processors);
+
+        return (schedulerMetrics == null) ? null : schedulerMetrics.getBestState();
+    }
+
+    /**
+     * Returns the metrics recorded for every processor count, ordered by processor count.
+     *
+     * @return the metrics for every processor count
+     */
+    public Map<Byte, MetricsModel> getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Displays the make-span against the number of processors as a table.
+     */
+    public void display() {
+        System.out.println("\nProcessor sweep:");
+        System.out.printf("  %-12s %-12s %-15s %-15s %-15s %-15s %s%n", "Processors", "Make-span", "Opened states",
+                "Closed states", "Elapsed (s)", "CPU (s)", "Heap (MB)");
+
+        this.metrics.forEach((processors, schedulerMetrics) -> System.out.printf("  %-12d %-12d %-15d %-15d %-15.3f %-15.3f %.1f%n",
+                processors,
+                schedulerMetrics.getBestState().getMaximumFinishTime(),
+                schedulerMetrics.getNumberOfOpenedStates(),
+                schedulerMetrics.getNumberOfClosedStates(),
+                schedulerMetrics.getElapsedTime(),
+                schedulerMetrics.getCpuTime(),
+                schedulerMetrics.getPeakHeapUsage() / 1048576.0));
+    }
+}
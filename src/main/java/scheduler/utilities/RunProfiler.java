@@ -0,0 +1,241 @@
+package scheduler.utilities;
+
+import scheduler.models.PhaseProfileModel;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static scheduler.constants.Constants.RUN_PROFILE_SAMPLE_INTERVAL;
+
+/**
+ * This class profiles the phases of a run, one phase at a time. The wall time is measured with a monotonic clock, and
+ * the CPU time, allocated bytes, garbage collections and peak heap usage are read from the management beans. Worker
+ * threads may end before their phase does, so the CPU time and allocated bytes of every thread are sampled by a
+ * separate thread once per sample interval, and a thread that ended counts with its last sample. The profiled threads
+ * do no extra work.
+ */
+public class RunProfiler {
+    private static final String SAMPLER_THREAD_NAME = "run-profiler";
+
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private final List<PhaseProfileModel> phaseProfiles;
+
+    private final Map<Long, ThreadSample> startSamples;
+    private final Map<Long, ThreadSample> lastSamples;
+
+    private ScheduledExecutorService sampler;
+
+    private String phaseName;
+
+    private long startNanoTime;
+    private long startProcessCpuTime;
+    private long startGarbageCollectionCount;
+    private long startGarbageCollectionTime;
+
+    /**
+     * Constructor for the RunProfiler class. The management beans are read once, so loading them is not part of the
+     * first phase.
+     */
+    public RunProfiler() {
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        this.phaseProfiles = new ArrayList<>();
+
+        this.startSamples = new HashMap<>();
+        this.lastSamples = new ConcurrentHashMap<>();
+
+        sampleThreads(this.startSamples);
+
+        Utility.getProcessCpuTime();
+        Utility.getPeakHeapUsage();
+        getGarbageCollectionTime();
+    }
+
+    /**
+     * Starts profiling a phase, and starts sampling the threads.
+     *
+     * @param name the name of the phase
+     */
+    public void startPhase(String name) {
+        if (this.phaseName != null) {
+            throw new IllegalStateException("The phase " + this.phaseName + " has not ended");
+        }
+
+        this.phaseName = name;
+
+        this.startSamples.clear();
+        this.lastSamples.clear();
+
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, SAMPLER_THREAD_NAME);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        Utility.resetPeakHeapUsage();
+
+        this.startGarbageCollectionCount = getGarbageCollectionCount();
+        this.startGarbageCollectionTime = getGarbageCollectionTime();
+
+        sampleThreads(this.startSamples);
+
+        this.startProcessCpuTime = Utility.getProcessCpuTime();
+        this.startNanoTime = System.nanoTime();
+
+        this.sampler.scheduleAtFixedRate(() -> sampleThreads(this.lastSamples), RUN_PROFILE_SAMPLE_INTERVAL,
+                RUN_PROFILE_SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ends the profiled phase, and returns its profile.
+     *
+     * @return the profile of the phase
+     */
+    public PhaseProfileModel endPhase() {
+        if (this.phaseName == null) {
+            throw new IllegalStateException("No phase has started");
+        }
+
+        long wallTime = System.nanoTime() - this.startNanoTime;
+        long processCpuTime = Utility.getProcessCpuTime() - this.startProcessCpuTime;
+
+        this.sampler.shutdownNow();
+
+        try {
+            this.sampler.awaitTermination(RUN_PROFILE_SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        sampleThreads(this.lastSamples);
+
+        long garbageCollectionCount = getGarbageCollectionCount() - this.startGarbageCollectionCount;
+        long garbageCollectionTime = getGarbageCollectionTime() - this.startGarbageCollectionTime;
+        long peakHeapUsage = Utility.getPeakHeapUsage();
+
+        long threadCpuTime = 0;
+        long allocatedBytes = 0;
+
+        Map<String, Long> allocatedBytesPerThread = new TreeMap<>();
+
+        for (Map.Entry<Long, ThreadSample> entry : this.lastSamples.entrySet()) {
+            ThreadSample lastSample = entry.getValue();
+            ThreadSample startSample = this.startSamples.getOrDefault(entry.getKey(), ThreadSample.EMPTY);
+
+            long threadAllocatedBytes = lastSample.allocatedBytes() - startSample.allocatedBytes();
+
+            threadCpuTime += lastSample.cpuTime() - startSample.cpuTime();
+            allocatedBytes += threadAllocatedBytes;
+
+            if (threadAllocatedBytes > 0) {
+                allocatedBytesPerThread.merge(lastSample.name(), threadAllocatedBytes, Long::sum);
+            }
+        }
+
+        PhaseProfileModel phaseProfile = new PhaseProfileModel(this.phaseName, wallTime, processCpuTime,
+                threadCpuTime, allocatedBytes, peakHeapUsage, garbageCollectionCount, garbageCollectionTime,
+                allocatedBytesPerThread);
+
+        this.phaseProfiles.add(phaseProfile);
+        this.phaseName = null;
+
+        return phaseProfile;
+    }
+
+    /**
+     * Returns the profiles of the phases that have ended, in the order they ended.
+     *
+     * @return the phase profiles
+     */
+    public List<PhaseProfileModel> getPhaseProfiles() {
+        return this.phaseProfiles;
+    }
+
+    /**
+     * Samples the CPU time and allocated bytes of every live thread, except the sampler. The samples of threads that
+     * have ended are kept. The names of new threads are looked up before the sample is taken, so the calling thread's
+     * sample does not include the lookups.
+     *
+     * @param samples the samples by thread id
+     */
+    private void sampleThreads(Map<Long, ThreadSample> samples) {
+        long[] threadIds = this.threadBean.getAllThreadIds();
+        String[] names = new String[threadIds.length];
+
+        for (int index = 0; index < threadIds.length; index++) {
+            ThreadSample sample = samples.get(threadIds[index]);
+
+            names[index] = (sample == null) ? getThreadName(threadIds[index]) : sample.name();
+        }
+
+        long[] cpuTimes = this.threadBean.isThreadCpuTimeEnabled() ? this.threadBean.getThreadCpuTime(threadIds) : new long[threadIds.length];
+        long[] allocatedBytes = this.threadBean.isThreadAllocatedMemoryEnabled() ? this.threadBean.getThreadAllocatedBytes(threadIds) : new long[threadIds.length];
+
+        for (int index = 0; index < threadIds.length; index++) {
+            if (names[index] != null && !names[index].equals(SAMPLER_THREAD_NAME) && cpuTimes[index] >= 0 && allocatedBytes[index] >= 0) {
+                samples.put(threadIds[index], new ThreadSample(names[index], cpuTimes[index], allocatedBytes[index]));
+            }
+        }
+    }
+
+    /**
+     * Returns the name of a thread, or null if it has ended.
+     *
+     * @param threadId the thread id
+     * @return the name of the thread
+     */
+    private String getThreadName(long threadId) {
+        ThreadInfo threadInfo = this.threadBean.getThreadInfo(threadId);
+
+        return (threadInfo == null) ? null : threadInfo.getThreadName();
+    }
+
+    /**
+     * Returns the number of garbage collections so far, summed over every collector.
+     *
+     * @return the number of garbage collections
+     */
+    private static long getGarbageCollectionCount() {
+        long garbageCollectionCount = 0;
+
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            garbageCollectionCount += Math.max(0, garbageCollector.getCollectionCount());
+        }
+
+        return garbageCollectionCount;
+    }
+
+    /**
+     * Returns the time spent in garbage collections so far in milliseconds, summed over every collector.
+     *
+     * @return the garbage collection time
+     */
+    private static long getGarbageCollectionTime() {
+        long garbageCollectionTime = 0;
+
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            garbageCollectionTime += Math.max(0, garbageCollector.getCollectionTime());
+        }
+
+        return garbageCollectionTime;
+    }
+
+    /**
+     * The CPU time in nanoseconds and allocated bytes of a thread when it was sampled.
+     */
+    private record ThreadSample(String name, long cpuTime, long allocatedBytes) {
+        private static final ThreadSample EMPTY = new ThreadSample("", 0, 0);
+    }
+}
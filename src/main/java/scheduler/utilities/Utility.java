@@ -3,6 +3,8 @@ package scheduler.utilities;
 import com.sun.management.OperatingSystemMXBean;
 
 import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.Random;
 
 /**
@@ -121,6 +123,46 @@ public class Utility {
         return cpuUsage;
     }
 
+    /**
+     * Gets the CPU time of the process in nanoseconds, summed over every thread.
+     *
+     * @return the CPU time, or -1 if it is not supported
+     */
+    public static long getProcessCpuTime() {
+        OperatingSystemMXBean osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        return (osBean == null) ? -1 : osBean.getProcessCpuTime();
+    }
+
+    /**
+     * Resets the peak usage of every heap memory pool, so the peak of a later phase can be measured on its own.
+     */
+    public static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP && memoryPool.isValid()) {
+                memoryPool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Gets the peak heap usage in bytes since the last reset, summed over the peaks of every heap memory pool. The
+     * pools may peak at different times, so this is an upper bound on the peak of the whole heap.
+     *
+     * @return the peak heap usage
+     */
+    public static long getPeakHeapUsage() {
+        long peakHeapUsage = 0;
+
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP && memoryPool.isValid()) {
+                peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+
+        return peakHeapUsage;
+    }
+
     /**
      * Displays the CPU and RAM usage.
      */
@@ -130,6 +172,27 @@ public class Utility {
         System.out.printf("  %-25s %dMB%n", "RAM Usage:", ramUsage);
     }
 
+    /**
+     * Gets the optimality gap of a schedule, that is, how much longer the schedule may be than an optimal schedule, as
+     * a fraction of its finish time.
+     *
+     * @param lowerBound the proven lower bound on the finish time of an optimal schedule
+     * @param upperBound the finish time of the schedule
+     * @return the optimality gap
+     * @throws IllegalArgumentException if the lower bound is above the finish time of the schedule
+     */
+    public static double getOptimalityGap(int lowerBound, int upperBound) {
+        if (upperBound <= 0) {
+            return 0.0;
+        }
+
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("The lower bound " + lowerBound + " is above the finish time " + upperBound);
+        }
+
+        return (upperBound - lowerBound) / (double) upperBound;
+    }
+
     /**
      * Generates a random RGB colour.
      *
@@ -15,9 +15,11 @@ import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 import scheduler.enums.SceneType;
 import scheduler.models.NodeModel;
+import scheduler.models.ProgressModel;
 import scheduler.models.StateModel;
 import scheduler.parsers.Arguments;
 import scheduler.schedulers.Scheduler;
+import scheduler.schedulers.listeners.SchedulerListener;
 import scheduler.utilities.Utility;
 import visualiser.GanttChart;
 import visualiser.Visualiser;
@@ -67,6 +69,8 @@ public class DynamicController {
 
     private NodeModel[] nodes;
 
+    private volatile StateModel currentState;
+
     private Timer ganttChartTimer;
     private Timer cpuAndRamUsageTimer;
 
@@ -173,7 +177,7 @@ public class DynamicController {
     }
 
     /**
-     * Sets the scheduler for the dynamic visualiser.
+     * Sets the scheduler for the dynamic visualiser, and listens to its progress for the state to draw.
      * 
      * @param scheduler the scheduler
      */
@@ -181,6 +185,13 @@ public class DynamicController {
         this.scheduler = scheduler;
 
         this.nodes = scheduler.getNodes();
+
+        this.scheduler.addListener(new SchedulerListener() {
+            @Override
+            public void onProgress(ProgressModel progress) {
+                currentState = progress.getCurrentState();
+            }
+        });
     }
 
     /**
@@ -189,7 +200,9 @@ public class DynamicController {
     private void startTracking() {
         Task<Void> schedulingTask = getVoidTask();
 
-        new Thread(schedulingTask).start();
+        Thread schedulingThread = new Thread(schedulingTask, "scheduler");
+        schedulingThread.setDaemon(true);
+        schedulingThread.start();
 
         startGanttChartTimer();
         startCpuAndRamUsageTimer();
@@ -228,6 +241,10 @@ public class DynamicController {
         Task<Void> schedulingTask = new Task<>() {
             @Override
             protected Void call() {
+                if (arguments.getTimeout() != null) {
+                    scheduler.getCancellationToken().setTimeout(arguments.getTimeout());
+                }
+
                 scheduler.schedule();
 
                 return null;
@@ -249,6 +266,8 @@ public class DynamicController {
      * Updates all the elements on schedule completion
      */
     private void updateElementsUponScheduleCompletion() throws IOException {
+        this.currentState = this.scheduler.getBestState();
+
         updateGanttChart();
 
         this.scheduler.saveBestState(this.arguments);
@@ -369,10 +388,10 @@ public class DynamicController {
     }
 
     /**
-     * Adds all tasks to the Gantt chart.
+     * Adds all tasks to the Gantt chart, processor by processor in the order of their start times.
      */
     public void addAllTask() {
-        StateModel state = this.scheduler.getCurrentState();
+        StateModel state = this.currentState;
         
         if (state == null) {
             return;
@@ -380,9 +399,9 @@ public class DynamicController {
 
         this.lblFinishTime.setText(String.valueOf(state.getMaximumFinishTime()));
 
-        for (NodeModel node : this.nodes) {
-            if (state.isNodeScheduled(node.getByteId())) {
-                addTask(state, node);
+        for (byte processor = 0; processor < state.getNumberOfProcessors(); processor++) {
+            for (short nodeId : state.getNodesOnProcessor(processor)) {
+                addTask(state, this.nodes[nodeId]);
             }
         }
     }
@@ -1,8 +1,10 @@
 package scheduler.schedulers.parallel;
 
 import org.graphstream.graph.Graph;
+import org.graphstream.graph.implementations.SingleGraph;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import scheduler.enums.SearchModelType;
 import scheduler.models.GraphModel;
 import scheduler.models.StateModel;
 import scheduler.parsers.InputOutputParser;
@@ -13,6 +15,7 @@ import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.constants.Constants.TEST_CRAWLED_DOT_FILE_PATH;
 import static scheduler.constants.Constants.TEST_INPUT_DOT_FILE_PATH;
 import static scheduler.constants.Constants.TEST_OUTPUT_DOT_FILE_PATH;
 
@@ -65,6 +68,315 @@ public class ParallelSchedulerIT extends BaseSchedulerIT {
         }
     }
 
+    @Test
+    public void testBreadthFirstNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerBreadthFirst(graph, arguments.getProcessors(), arguments.getCores());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testVirtualNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerVirtual(graph, arguments.getProcessors(), arguments.getCores());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testDepthFirstNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerDepthFirst(graph, arguments.getProcessors(), arguments.getCores());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testDepthFirstEpsilonNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+
+            ParallelSchedulerDepthFirst depthFirstScheduler = new ParallelSchedulerDepthFirst(graph, arguments.getProcessors(), arguments.getCores());
+            depthFirstScheduler.setEpsilon(0.1);
+            scheduler = depthFirstScheduler;
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            int finishTime = scheduler.getMetrics().getBestState().getMaximumFinishTime();
+            int lowerBound = scheduler.getMetrics().getLowerBound();
+
+            assertAll(
+                    () -> assertTrue(finishTime <= 1.1 * processorsAndExpectedValue[1]),
+                    () -> assertTrue(lowerBound <= processorsAndExpectedValue[1]),
+                    () -> assertTrue(scheduler.getMetrics().getOptimalityGap() <= 0.1)
+            );
+        }
+    }
+
+    @Test
+    public void testDynamicEpsilonNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+
+            ParallelSchedulerDynamic dynamicScheduler = new ParallelSchedulerDynamic(graph, arguments.getProcessors(), arguments.getCores());
+            dynamicScheduler.setEpsilon(0.2);
+            scheduler = dynamicScheduler;
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            int finishTime = scheduler.getMetrics().getBestState().getMaximumFinishTime();
+            int lowerBound = scheduler.getMetrics().getLowerBound();
+
+            assertAll(
+                    () -> assertTrue(finishTime <= 1.2 * processorsAndExpectedValue[1]),
+                    () -> assertTrue(lowerBound <= processorsAndExpectedValue[1]),
+                    () -> assertTrue(lowerBound * 1.2 >= finishTime)
+            );
+            assertBoundInvariants();
+        }
+    }
+
+    @Test
+    public void testBeamNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+
+            int greedyFinishTime = scheduler.getBestState().getMaximumFinishTime();
+
+            ParallelSchedulerBeam beamScheduler = new ParallelSchedulerBeam(graph, arguments.getProcessors(), arguments.getCores(), 8);
+            scheduler = beamScheduler;
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            int finishTime = scheduler.getMetrics().getBestState().getMaximumFinishTime();
+
+            assertAll(
+                    () -> assertTrue(finishTime >= processorsAndExpectedValue[1]),
+                    () -> assertTrue(finishTime <= greedyFinishTime),
+                    () -> assertTrue(scheduler.getMetrics().getLowerBound() <= processorsAndExpectedValue[1]),
+                    () -> assertTrue(scheduler.getMetrics().getNumberOfClosedStates() <= beamScheduler.getBeamWidth())
+            );
+
+            // Act
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerBeam(graph, arguments.getProcessors(), arguments.getCores(), Integer.MAX_VALUE);
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            assertEquals(processorsAndExpectedValue[1], scheduler.getMetrics().getLowerBound());
+        }
+    }
+
+    @Test
+    public void testBeamNodes_200_Random() {
+        // Arrange
+        Graph graphStream = new SingleGraph("digraph");
+
+        for (int nodeId = 0; nodeId < 200; nodeId++) {
+            graphStream.addNode(String.valueOf(nodeId)).setAttribute("Weight", (double) ThreadLocalRandom.current().nextInt(1, 11));
+
+            for (int edge = 0; nodeId > 0 && edge < 2; edge++) {
+                String sourceId = String.valueOf(ThreadLocalRandom.current().nextInt(0, nodeId));
+
+                if (graphStream.getEdge(sourceId + "->" + nodeId) == null) {
+                    graphStream.addEdge(sourceId + "->" + nodeId, sourceId, String.valueOf(nodeId), true)
+                            .setAttribute("Weight", (double) ThreadLocalRandom.current().nextInt(1, 11));
+                }
+            }
+        }
+
+        graph = new GraphModel(graphStream);
+        scheduler = new ParallelSchedulerBeam(graph, (byte) 2, (byte) 2, 8);
+
+        int greedyFinishTime = scheduler.getBestState().getMaximumFinishTime();
+
+        // Act
+        scheduler.schedule();
+
+        // Assert
+        StateModel bestState = scheduler.getMetrics().getBestState();
+        int finishTime = bestState.getMaximumFinishTime();
+
+        assertAll(
+                () -> assertEquals(200, bestState.getNumberOfScheduledNodes()),
+                () -> assertTrue(finishTime <= greedyFinishTime),
+                () -> assertTrue(scheduler.getMetrics().getLowerBound() <= finishTime)
+        );
+    }
+
+    @Test
+    public void testPortfolioNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerPortfolio(graph, arguments.getProcessors(), arguments.getCores());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            assertEquals(processorsAndExpectedValue[1], scheduler.getMetrics().getLowerBound());
+        }
+    }
+
+    @Test
+    public void testDynamicNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0], randomCores);
+            scheduler = new ParallelSchedulerDynamic(graph, arguments.getProcessors(), arguments.getCores());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+            assertBoundInvariants();
+        }
+    }
+
+    @Test
+    public void testDynamicCrawledNodes_10_Random() throws IOException {
+        // Arrange
+        int expectedValue = arrangeCrawledTestCase("Random_Nodes_10_Density_1.70_CCR_0.10_WeightType_Random_Homogeneous-2.dot");
+
+        for (byte cores = 2; cores <= 8; cores += 2) {
+            scheduler = new ParallelSchedulerDynamic(graph, arguments.getProcessors(), cores);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(expectedValue);
+            assertBoundInvariants();
+        }
+    }
+
+    @Test
+    public void testDynamicAllocationOrderingCrawledNodes_10_Fork_Join() throws IOException {
+        // Arrange
+        String[] forkJoinDOTFiles = {
+                "Fork_Join_Nodes_10_CCR_1.00_WeightType_Random_Homogeneous-4.dot",
+                "Fork_Join_Nodes_10_CCR_1.00_WeightType_Random#6_Homogeneous-2.dot",
+                "Fork_Join_Nodes_10_CCR_1.01_WeightType_Random#1_Homogeneous-4.dot"};
+
+        for (String forkJoinDOTFile : forkJoinDOTFiles) {
+            int expectedValue = arrangeCrawledTestCase(forkJoinDOTFile);
+            byte randomCores = (byte) ThreadLocalRandom.current().nextInt(2, 9);
+
+            ParallelSchedulerDynamic dynamicScheduler = new ParallelSchedulerDynamic(graph, arguments.getProcessors(), randomCores);
+            dynamicScheduler.setSearchModelType(SearchModelType.ALLOCATION_ORDERING);
+            scheduler = dynamicScheduler;
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(expectedValue);
+            assertBoundInvariants();
+        }
+    }
+
+    /**
+     * Reads a crawled graph, and sets the number of processors to its target system
+     *
+     * @param filename the name of the crawled DOT file
+     * @return the optimal finish time of the crawled graph
+     */
+    private int arrangeCrawledTestCase(String filename) throws IOException {
+        Graph crawledGraph = InputOutputParser.readDOTFile(TEST_CRAWLED_DOT_FILE_PATH.concat(filename));
+
+        setProcessors(crawledGraph);
+        graph = new GraphModel(crawledGraph);
+
+        return (int) Math.round((double) crawledGraph.getAttribute("Total schedule length"));
+    }
+
+    private void assertBoundInvariants() {
+        int finishTime = scheduler.getMetrics().getBestState().getMaximumFinishTime();
+        int lowerBound = scheduler.getMetrics().getLowerBound();
+
+        assertAll(
+                () -> assertTrue(lowerBound <= finishTime),
+                () -> assertEquals((double) (finishTime - lowerBound) / finishTime,
+                        scheduler.getMetrics().getOptimalityGap(), 1e-9));
+    }
+
     @Test
     public void testNodes_8_Random() throws IOException {
         // Arrange
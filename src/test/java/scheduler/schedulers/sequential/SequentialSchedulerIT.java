@@ -3,14 +3,36 @@ package scheduler.schedulers.sequential;
 import org.graphstream.graph.Graph;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import scheduler.enums.LowerBoundType;
+import scheduler.enums.SearchModelType;
+import scheduler.models.GraphDeltaModel;
 import scheduler.models.GraphModel;
+import scheduler.models.MetricsModel;
+import scheduler.models.NodeModel;
+import scheduler.models.PhaseProfileModel;
+import scheduler.models.RuleMetricsModel;
 import scheduler.models.StateModel;
 import scheduler.parsers.InputOutputParser;
+import scheduler.parsers.MetricsParser;
 import scheduler.schedulers.BaseSchedulerIT;
+import scheduler.schedulers.Scheduler;
+import scheduler.schedulers.SchedulerSelector;
+import scheduler.schedulers.listeners.SchedulerListener;
+import scheduler.utilities.RunProfiler;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.constants.Constants.TEST_CRAWLED_DOT_FILE_PATH;
 import static scheduler.constants.Constants.TEST_INPUT_DOT_FILE_PATH;
 import static scheduler.constants.Constants.TEST_OUTPUT_DOT_FILE_PATH;
 
@@ -129,6 +151,650 @@ public class SequentialSchedulerIT extends BaseSchedulerIT {
         }
     }
 
+    @Test
+    public void testPartialExpansionNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            ((AStarScheduler) scheduler).setPartialExpansion(true);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testAllocationOrderingNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{1, 63}, {2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            ((AStarScheduler) scheduler).setSearchModelType(SearchModelType.ALLOCATION_ORDERING);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testLowerBoundsNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            for (LowerBoundType lowerBoundType : LowerBoundType.values()) {
+                ((AStarScheduler) scheduler).setLowerBound(lowerBoundType, true);
+            }
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testRuleMetricsNodes_10_Random() throws IOException {
+        // Arrange
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+        arrangeTestCase((byte) 2);
+
+        // Act
+        scheduler.schedule();
+
+        // Assert
+        RuleMetricsModel costBoundMetrics = null;
+
+        for (RuleMetricsModel ruleMetrics : scheduler.getMetrics().getRuleMetrics()) {
+            assertTrue(ruleMetrics.getNumberOfHits() <= ruleMetrics.getNumberOfCalls());
+
+            if (ruleMetrics.getName().equals("Cost bound")) {
+                costBoundMetrics = ruleMetrics;
+            }
+        }
+
+        assertNotNull(costBoundMetrics);
+        assertTrue(costBoundMetrics.getNumberOfCalls() - costBoundMetrics.getNumberOfHits() >= scheduler.getMetrics().getNumberOfOpenedStates());
+    }
+
+    @Test
+    public void testRuleTimingNodes_10_Random() throws IOException {
+        boolean[] isRuleTimingValues = {false, true};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (boolean isRuleTiming : isRuleTimingValues) {
+            // Arrange
+            arrangeTestCase((byte) 2);
+            scheduler.setRuleTiming(isRuleTiming);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            long numberOfCalls = 0;
+            long elapsedNanoTime = 0;
+
+            for (RuleMetricsModel ruleMetrics : scheduler.getMetrics().getRuleMetrics()) {
+                numberOfCalls += ruleMetrics.getNumberOfCalls();
+                elapsedNanoTime += ruleMetrics.getElapsedNanoTime();
+            }
+
+            assertTrue(numberOfCalls > 0);
+            assertEquals(isRuleTiming, elapsedNanoTime > 0);
+        }
+    }
+
+    @Test
+    public void testExternalMemoryNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{1, 63}, {2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+        Path directory = Files.createTempDirectory("external");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler = new ExternalMemoryAStarScheduler(graph, arguments.getProcessors(), directory, 16, 256);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testSchedulerSelectorNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{1, 63}, {2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            SchedulerSelector schedulerSelector = new SchedulerSelector(graph, (byte) 1);
+            scheduler = schedulerSelector.getScheduler(graph, arguments.getProcessors());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertEquals(1, schedulerSelector.getCores());
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testDFSNodes_7_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 28}, {4, 22}};
+        setInputAndOutputPaths("Nodes_7_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler = new DFSScheduler(graph, arguments.getProcessors());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+            assertEquals(processorsAndExpectedValue[1], scheduler.getUpperBound());
+        }
+    }
+
+    @Test
+    public void testCancelledDFSNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler = new DFSScheduler(graph, arguments.getProcessors());
+            scheduler.getCancellationToken().setTimeout(Duration.ZERO);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            StateModel bestState = scheduler.getMetrics().getBestState();
+
+            assertAll(
+                    () -> assertTrue(scheduler.getMetrics().isCancelled()),
+                    () -> assertNotNull(bestState),
+                    () -> assertTrue(bestState.areAllNodesScheduled()),
+                    () -> assertTrue(bestState.getMaximumFinishTime() >= processorsAndExpectedValue[1])
+            );
+        }
+    }
+
+    @Test
+    public void testCancelledNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler.getCancellationToken().setTimeout(Duration.ZERO);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            StateModel bestState = scheduler.getMetrics().getBestState();
+
+            assertAll(
+                    () -> assertTrue(scheduler.getMetrics().isCancelled()),
+                    () -> assertTrue(bestState.areAllNodesScheduled()),
+                    () -> assertTrue(bestState.getMaximumFinishTime() >= processorsAndExpectedValue[1])
+            );
+        }
+    }
+
+    @Test
+    public void testOptimalityGapNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler.getCancellationToken().setTimeout(Duration.ZERO);
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            int cancelledLowerBound = scheduler.getMetrics().getLowerBound();
+            double cancelledOptimalityGap = scheduler.getMetrics().getOptimalityGap();
+
+            assertAll(
+                    () -> assertTrue(cancelledLowerBound > 0),
+                    () -> assertTrue(cancelledLowerBound <= processorsAndExpectedValue[1]),
+                    () -> assertTrue(cancelledOptimalityGap >= 0 && cancelledOptimalityGap < 1)
+            );
+
+            // Act
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            assertAll(
+                    () -> assertEquals(processorsAndExpectedValue[1], scheduler.getMetrics().getLowerBound()),
+                    () -> assertEquals(processorsAndExpectedValue[1], scheduler.getProvenLowerBound()),
+                    () -> assertEquals(0.0, scheduler.getOptimalityGap())
+            );
+        }
+    }
+
+    @Test
+    public void testEpsilonNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            AStarScheduler aStarScheduler = new AStarScheduler(graph, arguments.getProcessors());
+            aStarScheduler.setEpsilon(0.1);
+            scheduler = aStarScheduler;
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            int finishTime = scheduler.getMetrics().getBestState().getMaximumFinishTime();
+            int lowerBound = scheduler.getMetrics().getLowerBound();
+
+            assertAll(
+                    () -> assertFalse(scheduler.getMetrics().isCancelled()),
+                    () -> assertTrue(finishTime <= 1.1 * processorsAndExpectedValue[1]),
+                    () -> assertTrue(lowerBound <= processorsAndExpectedValue[1]),
+                    () -> assertTrue(scheduler.getMetrics().getOptimalityGap() <= 0.1)
+            );
+        }
+    }
+
+    @Test
+    public void testMetricsExportNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            Path jsonFile = Files.createTempFile("metrics", ".json");
+            Path prometheusFile = Files.createTempFile("metrics", ".prom");
+
+            // Act
+            scheduler.schedule();
+
+            MetricsParser.outputJSONFile(scheduler, arguments, jsonFile.toString());
+            MetricsParser.outputPrometheusFile(scheduler, arguments, prometheusFile.toString());
+
+            // Assert
+            String json = Files.readString(jsonFile);
+            String prometheus = Files.readString(prometheusFile);
+
+            Files.delete(jsonFile);
+            Files.delete(prometheusFile);
+
+            assertAll(
+                    () -> assertTrue(json.contains("\"graph\": \"Nodes_10_Random.dot\"")),
+                    () -> assertTrue(json.contains("\"finishTime\": " + processorsAndExpectedValue[1] + ",")),
+                    () -> assertTrue(json.contains("\"optimalityGap\": 0,")),
+                    () -> assertTrue(json.contains("{\"name\": \"Upper bound\", \"calls\": ")),
+                    () -> assertTrue(prometheus.contains("# TYPE scheduler_finish_time gauge\n")),
+                    () -> assertTrue(prometheus.contains("scheduler_finish_time{graph=\"Nodes_10_Random.dot\",scheduler=\"AStarScheduler\",processors=\"" + processorsAndExpectedValue[0] + "\",cores=\"1\"} " + processorsAndExpectedValue[1] + "\n")),
+                    () -> assertTrue(prometheus.contains(",rule=\"Upper bound\"} "))
+            );
+        }
+    }
+
+    @Test
+    public void testRunProfileNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            RunProfiler runProfiler = new RunProfiler();
+
+            // Act
+            runProfiler.startPhase("Search");
+            scheduler.schedule();
+            PhaseProfileModel searchProfile = runProfiler.endPhase();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            assertAll(
+                    () -> assertEquals("Search", searchProfile.getName()),
+                    () -> assertTrue(searchProfile.getWallTime() > 0),
+                    () -> assertTrue(searchProfile.getThreadCpuTime() > 0),
+                    () -> assertTrue(searchProfile.getAllocatedBytes() > 0),
+                    () -> assertTrue(searchProfile.getPeakHeapUsage() > 0),
+                    () -> assertTrue(searchProfile.getAllocatedBytesPerThread().containsKey(Thread.currentThread().getName())),
+                    () -> assertEquals(List.of(searchProfile), runProfiler.getPhaseProfiles())
+            );
+        }
+    }
+
+    @Test
+    public void testListenerNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{1, 63}, {2, 50}, {4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            List<Integer> incumbentFinishTimes = new ArrayList<>();
+            List<Integer> lowerBounds = new ArrayList<>();
+
+            scheduler.addListener(new SchedulerListener() {
+                @Override
+                public void onIncumbentImproved(StateModel state) {
+                    incumbentFinishTimes.add(state.getMaximumFinishTime());
+                }
+
+                @Override
+                public void onLowerBoundRaised(int lowerBound) {
+                    lowerBounds.add(lowerBound);
+                }
+            });
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            for (int i = 1; i < lowerBounds.size(); i++) {
+                assertTrue(lowerBounds.get(i - 1) < lowerBounds.get(i));
+            }
+
+            assertAll(
+                    () -> assertFalse(incumbentFinishTimes.isEmpty()),
+                    () -> assertEquals(processorsAndExpectedValue[1], (int) incumbentFinishTimes.get(incumbentFinishTimes.size() - 1)),
+                    () -> assertFalse(lowerBounds.isEmpty()),
+                    () -> assertTrue(lowerBounds.get(lowerBounds.size() - 1) <= processorsAndExpectedValue[1])
+            );
+        }
+    }
+
+    @Test
+    public void testOfferedUpperBoundNodes_10_Random() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{4, 50}};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler.schedule();
+
+            StateModel optimalState = scheduler.getMetrics().getBestState();
+
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+
+            AStarScheduler aStarScheduler = (AStarScheduler) scheduler;
+            boolean[] isLongerStateOpened = {false};
+
+            aStarScheduler.addPruningRule("Offer upper bound", (state, nextState, isFixedNodeOrder) -> {
+                if (isLongerStateOpened[0]) {
+                    aStarScheduler.offerUpperBound(optimalState);
+                } else if (nextState.areAllNodesScheduled() && nextState.getMaximumFinishTime() > processorsAndExpectedValue[1]) {
+                    isLongerStateOpened[0] = true;
+                }
+
+                return false;
+            });
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTrue(isLongerStateOpened[0]);
+            assertTestCase(processorsAndExpectedValue[1]);
+
+            assertEquals(processorsAndExpectedValue[1], scheduler.getMetrics().getLowerBound());
+        }
+    }
+
+    @Test
+    public void testFrontierNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            arrangeTestCase((byte) processorsAndExpectedValue[0]);
+            scheduler = new FrontierAStarScheduler(graph, arguments.getProcessors());
+
+            // Act
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(processorsAndExpectedValue[1]);
+        }
+    }
+
+    @Test
+    public void testProcessorSweepNodes_11_OutTree() throws IOException {
+        // Arrange
+        int[][] processorsAndExpectedValues = {{1, 640}, {2, 350}, {4, 227}};
+        setInputAndOutputPaths("Nodes_11_OutTree.dot");
+        createGraph();
+
+        ProcessorSweep processorSweep = new ProcessorSweep(graph, new byte[]{4, 1, 2});
+
+        // Act
+        processorSweep.run();
+
+        // Assert
+        for (int[] processorsAndExpectedValue : processorsAndExpectedValues) {
+            StateModel bestState = processorSweep.getBestState((byte) processorsAndExpectedValue[0]);
+            MetricsModel sweepMetrics = processorSweep.getMetrics().get((byte) processorsAndExpectedValue[0]);
+
+            assertAll(
+                    () -> assertNotNull(bestState),
+                    () -> assertEquals(processorsAndExpectedValue[1], bestState.getMaximumFinishTime()),
+                    () -> assertEquals(1, sweepMetrics.getPhaseProfiles().size()),
+                    () -> assertTrue(sweepMetrics.getElapsedTime() > 0)
+            );
+        }
+    }
+
+    @Test
+    public void testProcessorSequencesNodes_10_Random() throws IOException {
+        // Arrange
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+        arrangeTestCase((byte) 4);
+
+        // Act
+        scheduler.schedule();
+
+        // Assert
+        StateModel bestState = scheduler.getMetrics().getBestState();
+
+        int numberOfNodes = 0;
+
+        for (byte processor = 0; processor < bestState.getNumberOfProcessors(); processor++) {
+            int previousFinishTime = 0;
+
+            for (short nodeId : bestState.getNodesOnProcessor(processor)) {
+                assertEquals(processor, bestState.getNodeProcessor(nodeId));
+                assertTrue(bestState.getNodeStartTime(nodeId) >= previousFinishTime);
+
+                previousFinishTime = bestState.getNodeStartTime(nodeId) + scheduler.getNodes()[nodeId].getWeight();
+                numberOfNodes++;
+            }
+        }
+
+        assertEquals(scheduler.getNodes().length, numberOfNodes);
+    }
+
+    @Test
+    public void testConcurrentMaterialiseNodes_10_Random() throws Exception {
+        // Arrange
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+        arrangeTestCase((byte) 4);
+        scheduler.schedule();
+
+        StateModel bestState = scheduler.getMetrics().getBestState();
+        NodeModel[] nodes = scheduler.getNodes();
+        short lastNodeId = bestState.getLastNode();
+
+        List<NodeModel> sortedNodes = new ArrayList<>(List.of(nodes));
+        sortedNodes.sort(Comparator.comparingInt(bestState::getNodeStartTime));
+
+        StateModel parentState = new StateModel(bestState.getNumberOfProcessors(), (short) nodes.length);
+
+        for (NodeModel node : sortedNodes) {
+            if (node.getIndex() != lastNodeId) {
+                parentState.addNode(node, bestState.getNodeProcessor(node), bestState.getNodeStartTime(node));
+            }
+        }
+
+        List<StateModel> lazyStates = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            lazyStates.add(new StateModel(parentState, nodes[lastNodeId], bestState.getNodeProcessor(lastNodeId), bestState.getNodeStartTime(lastNodeId)));
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            futures.add(threadPool.submit(() -> {
+                int numberOfIncompleteStates = 0;
+
+                for (StateModel lazyState : lazyStates) {
+                    int numberOfNodes = 0;
+
+                    for (byte processor = 0; processor < lazyState.getNumberOfProcessors(); processor++) {
+                        numberOfNodes += lazyState.getNodesOnProcessor(processor).length;
+                    }
+
+                    if (numberOfNodes != nodes.length) {
+                        numberOfIncompleteStates++;
+                    }
+                }
+
+                return numberOfIncompleteStates;
+            }));
+        }
+
+        // Assert
+        for (Future<Integer> future : futures) {
+            assertEquals(0, future.get());
+        }
+
+        threadPool.shutdown();
+
+        for (StateModel lazyState : lazyStates) {
+            assertEquals(bestState, lazyState);
+        }
+    }
+
+    private GraphDeltaModel createGraphDelta() {
+        GraphDeltaModel delta = new GraphDeltaModel();
+
+        delta.setNodeWeight("6", 12);
+        delta.setEdgeWeight("4", "6", 30);
+        delta.setEdgeWeight("5", "9", 5);
+        delta.setEdgeWeight("5", "0", 20);
+
+        return delta;
+    }
+
+    @Test
+    public void testIncrementalNodes_10_Random() throws IOException {
+        // Arrange
+        byte[] processors = {1, 2, 4};
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+
+        for (byte processor : processors) {
+            arrangeTestCase(processor);
+            scheduler.schedule();
+
+            GraphModel expectedGraph = new GraphModel(new GraphModel(arguments.getInputDOTFilePath()), createGraphDelta());
+
+            Scheduler expectedScheduler = new AStarScheduler(expectedGraph, processor);
+            expectedScheduler.schedule();
+
+            StateModel previousBestState = scheduler.getMetrics().getBestState();
+            int previousWeight = graph.getNode("6").getWeight();
+
+            // Act
+            scheduler = new AStarScheduler(scheduler, previousBestState, createGraphDelta());
+            scheduler.schedule();
+
+            // Assert
+            assertTestCase(expectedScheduler.getMetrics().getBestState().getMaximumFinishTime());
+
+            assertAll(
+                    () -> assertNotSame(graph, scheduler.getGraph()),
+                    () -> assertEquals(previousWeight, graph.getNode("6").getWeight()),
+                    () -> assertNull(graph.getEdge(graph.getNode("5"), graph.getNode("0"))),
+                    () -> assertEquals(expectedScheduler.getMetrics().getLowerBound(), scheduler.getMetrics().getLowerBound())
+            );
+        }
+    }
+
+    @Test
+    public void testIncrementalCycleNodes_10_Random() throws IOException {
+        // Arrange
+        setInputAndOutputPaths("Nodes_10_Random.dot");
+        arrangeTestCase((byte) 2);
+
+        GraphDeltaModel delta = new GraphDeltaModel();
+        delta.setEdgeWeight("3", "1", 10);
+
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> new AStarScheduler(scheduler, null, delta));
+    }
+
+    @Test
+    public void testScheduleEquivalenceCrawledDOTFiles() throws IOException {
+        // Arrange
+        String[] regressionDOTFiles = {
+                "Join_Nodes_10_CCR_9.99_WeightType_Random_Homogeneous-2.dot",
+                "Join_Nodes_10_CCR_10.00_WeightType_Random#4_Homogeneous-2.dot",
+                "OutTree-Balanced-MaxBf-3_Nodes_10_CCR_10.00_WeightType_Random#2_Homogeneous-2.dot",
+                "Fork_Nodes_10_CCR_0.10_WeightType_Random#6_Homogeneous-2.dot"};
+
+        // Act and Assert
+        for (String regressionDOTFile : regressionDOTFiles) {
+            testCrawledDOTFile(TEST_CRAWLED_DOT_FILE_PATH.concat(regressionDOTFile));
+        }
+    }
+
     public void setProcessors(Graph graph) {
         String targetSystem = (String) graph.getAttribute("TargetSystem");
 